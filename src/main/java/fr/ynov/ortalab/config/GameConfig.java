@@ -1,5 +1,8 @@
 package main.java.fr.ynov.ortalab.config;
 
+import main.java.fr.ynov.ortalab.domain.game.EvaluationCache;
+import main.java.fr.ynov.ortalab.domain.game.HandEvaluator;
+
 /**
  * Contains game configuration constants that define core game mechanics.
  * This class is not meant to be instantiated.
@@ -16,6 +19,11 @@ public class GameConfig {
     public static final int BASE_GOLD_REWARD = 5;
     public static final int GOLD_REWARD_MULTIPLIER = 5;
     public static final int[] SHOP_LEVELS = {1, 3};
+    public static final int MAX_HAND_LEVEL = 10;
+    public static final int JOKERS_IN_DECK = 0;
+    public static final HandEvaluator.Strategy HAND_EVALUATION_STRATEGY = HandEvaluator.Strategy.CHECKER_CHAIN;
+    public static final int EVALUATION_CACHE_CAPACITY = 1 << 16;
+    public static final EvaluationCache.Eviction EVALUATION_CACHE_EVICTION = EvaluationCache.Eviction.CLOCK;
 
     /**
      * Private constructor to prevent instantiation.
@@ -1,13 +1,56 @@
 package main.java.fr.ynov.ortalab.domain.card;
 
 /**
- * Represents a playing card with a value and suit.
+ * Represents a playing card with a value and suit, or a joker.
  * Implemented as a record for immutability and automatic implementation of core methods.
+ * A joker is a wild card with no value nor suit: hand evaluation lets it stand in for any card.
  *
- * @param value the card's value (e.g., ACE, KING, QUEEN)
- * @param suit the card's suit (e.g., HEARTS, SPADES)
+ * @param value the card's value (e.g., ACE, KING, QUEEN), null for a joker
+ * @param suit the card's suit (e.g., HEARTS, SPADES), null for a joker
+ * @param jokerNumber the number of the joker (1 or 2), 0 for a standard card
  */
-public record Card(CardValue value, CardSuit suit) {
+public record Card(CardValue value, CardSuit suit, int jokerNumber) {
+    public static final int JOKER_COUNT = 2;
+
+    /**
+     * Validates that the card is either a standard card or a numbered joker.
+     *
+     * @throws IllegalArgumentException if the components mix both kinds
+     */
+    public Card {
+        boolean standard = value != null && suit != null && jokerNumber == 0;
+        boolean joker = value == null && suit == null && jokerNumber >= 1 && jokerNumber <= JOKER_COUNT;
+        if (!standard && !joker) {
+            throw new IllegalArgumentException("Invalid card: " + value + ", " + suit + ", joker " + jokerNumber);
+        }
+    }
+
+    /**
+     * Creates a standard card.
+     *
+     * @param value the card's value
+     * @param suit the card's suit
+     */
+    public Card(CardValue value, CardSuit suit) {
+        this(value, suit, 0);
+    }
+
+    /**
+     * Creates a joker.
+     *
+     * @param number the number of the joker, from 1 to {@link #JOKER_COUNT}
+     * @return the joker card
+     */
+    public static Card joker(int number) {
+        return new Card(null, null, number);
+    }
+
+    /**
+     * @return true if this card is a wild joker
+     */
+    public boolean isJoker() {
+        return jokerNumber != 0;
+    }
 
     /**
      * Returns a string representation of the card in the format "value of suit".
@@ -15,6 +58,9 @@ public record Card(CardValue value, CardSuit suit) {
      */
     @Override
     public String toString() {
+        if (isJoker()) {
+            return "Joker " + jokerNumber;
+        }
         return value + " of " + suit;
     }
 
@@ -23,6 +69,9 @@ public record Card(CardValue value, CardSuit suit) {
      * @return card value symbol followed by suit Unicode symbol
      */
     public String toShortString() {
+        if (isJoker()) {
+            return "★";
+        }
         String suitSymbol = switch (suit) {
             case CLUBS -> "♣";
             case HEARTS -> "♥";
@@ -34,7 +83,7 @@ public record Card(CardValue value, CardSuit suit) {
 
     /**
      * Compares this card with another object for equality.
-     * Cards are equal if they have the same value and suit.
+     * Cards are equal if they have the same value and suit, or are the same joker.
      *
      * @param obj the object to compare with
      * @return true if the objects are equal, false otherwise
@@ -45,6 +94,21 @@ public record Card(CardValue value, CardSuit suit) {
         if (obj == null || getClass() != obj.getClass()) return false;
 
         Card card = (Card) obj;
-        return value == card.value && suit == card.suit;
+        return value == card.value && suit == card.suit && jokerNumber == card.jokerNumber;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     * A standard card hashes from its value and suit only, as before jokers existed,
+     * so hash-based collections of standard cards behave the same; a joker hashes from its number.
+     *
+     * @return the hash code of the card
+     */
+    @Override
+    public int hashCode() {
+        if (isJoker()) {
+            return jokerNumber;
+        }
+        return 31 * value.hashCode() + suit.hashCode();
     }
 }
\ No newline at end of file
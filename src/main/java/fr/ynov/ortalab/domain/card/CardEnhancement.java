@@ -0,0 +1,60 @@
+package main.java.fr.ynov.ortalab.domain.card;
+
+/**
+ * Enumeration of the enhancements a card of the deck can carry.
+ * Each enhancement adds chips and mult, and multiplies the mult, whenever the card
+ * is part of a scored combination.
+ */
+public enum CardEnhancement {
+    NONE("None", 0, 0, 100),
+    BONUS("Bonus", 30, 0, 100),
+    MULT("Mult", 0, 4, 100),
+    GLASS("Glass", 0, 0, 200),
+    STEEL("Steel", 0, 0, 150);
+
+    private final String name;
+    private final int chips;
+    private final int mult;
+    private final int multPercent;
+
+    /**
+     * Constructs an enhancement with its scoring effects.
+     *
+     * @param name the display name of the enhancement
+     * @param chips the chips added by the card
+     * @param mult the mult added by the card
+     * @param multPercent the factor applied to the mult by the card, in percent
+     */
+    CardEnhancement(String name, int chips, int mult, int multPercent) {
+        this.name = name;
+        this.chips = chips;
+        this.mult = mult;
+        this.multPercent = multPercent;
+    }
+
+    /**
+     * Returns the display name of this enhancement.
+     *
+     * @return the enhancement's display name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public int getChips() {
+        return chips;
+    }
+
+    public int getMult() {
+        return mult;
+    }
+
+    public int getMultPercent() {
+        return multPercent;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
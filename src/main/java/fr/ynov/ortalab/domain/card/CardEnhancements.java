@@ -0,0 +1,81 @@
+package main.java.fr.ynov.ortalab.domain.card;
+
+import java.util.Arrays;
+
+/**
+ * Enhancements of the cards of a deck, kept beside the cards rather than inside them.
+ * Cards stay immutable value records; the enhancement of each card is a byte in an array
+ * indexed by its dense card id (its {@link CardSet} bit index), so reading it is one array access.
+ * A version counter increases on every change, letting compiled scoring tables detect stale data.
+ */
+public class CardEnhancements {
+    private static final CardEnhancement[] ENHANCEMENTS = CardEnhancement.values();
+
+    private final byte[] enhancements = new byte[CardSet.CARD_COUNT];  // Enhancement ordinal per card id
+    private int version;
+
+    /**
+     * Sets the enhancement of a card, replacing the previous one.
+     *
+     * @param card the card to enhance
+     * @param enhancement the new enhancement, NONE to remove it
+     */
+    public void set(Card card, CardEnhancement enhancement) {
+        int id = CardSet.indexOf(card);
+        if (enhancements[id] != enhancement.ordinal()) {
+            enhancements[id] = (byte) enhancement.ordinal();
+            version++;
+        }
+    }
+
+    /**
+     * Returns the enhancement of a card.
+     *
+     * @param card the card to look up
+     * @return the card's enhancement, NONE if it has none
+     */
+    public CardEnhancement get(Card card) {
+        return get(CardSet.indexOf(card));
+    }
+
+    /**
+     * Returns the enhancement of a card by id.
+     *
+     * @param id the card id (see {@link CardSet#indexOf(Card)})
+     * @return the card's enhancement, NONE if it has none
+     */
+    public CardEnhancement get(int id) {
+        return ENHANCEMENTS[enhancements[id]];
+    }
+
+    /**
+     * Computes the mask of the cards carrying an enhancement.
+     *
+     * @param enhancement the enhancement to look for
+     * @return the bitmask of the cards with that enhancement (see {@link CardSet})
+     */
+    public long maskOf(CardEnhancement enhancement) {
+        long mask = 0L;
+        for (int id = 0; id < enhancements.length; id++) {
+            if (enhancements[id] == enhancement.ordinal()) {
+                mask |= 1L << id;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Removes every enhancement.
+     */
+    public void clear() {
+        Arrays.fill(enhancements, (byte) CardEnhancement.NONE.ordinal());
+        version++;
+    }
+
+    /**
+     * @return the number of changes made so far
+     */
+    public int getVersion() {
+        return version;
+    }
+}
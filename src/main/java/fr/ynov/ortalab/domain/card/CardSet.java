@@ -0,0 +1,292 @@
+package main.java.fr.ynov.ortalab.domain.card;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable set of playing cards packed into a single 64-bit mask.
+ * Every card of the standard deck owns one bit, indexed suit-major
+ * (suit ordinal * 13 + value ordinal), so set operations are plain bitwise
+ * instructions and no collection has to be allocated or hashed.
+ * The two jokers use the bits right after the standard deck (52 and 53).
+ *
+ * @param mask the bit mask of the cards contained in this set
+ */
+public record CardSet(long mask) implements Iterable<Card> {
+    public static final int VALUE_COUNT = CardValue.values().length;
+    public static final int SUIT_COUNT = CardSuit.values().length;
+    public static final int DECK_SIZE = VALUE_COUNT * SUIT_COUNT;
+    public static final int CARD_COUNT = DECK_SIZE + Card.JOKER_COUNT;
+    public static final long FULL_DECK_MASK = (1L << DECK_SIZE) - 1;
+    public static final long JOKER_MASK = ((1L << Card.JOKER_COUNT) - 1) << DECK_SIZE;
+    public static final CardSet EMPTY = new CardSet(0L);
+    public static final CardSet FULL_DECK = new CardSet(FULL_DECK_MASK);
+
+    private static final long SUIT_ROW = (1L << VALUE_COUNT) - 1;
+    private static final long RANK_COLUMN = 1L | 1L << VALUE_COUNT | 1L << (2 * VALUE_COUNT) | 1L << (3 * VALUE_COUNT);
+
+    /**
+     * Canonical card instance for each bit index, shared by all sets.
+     */
+    private static final Card[] CARDS = new Card[CARD_COUNT];
+
+    static {
+        for (CardSuit suit : CardSuit.values()) {
+            for (CardValue value : CardValue.values()) {
+                CARDS[suit.ordinal() * VALUE_COUNT + value.ordinal()] = new Card(value, suit);
+            }
+        }
+        for (int number = 1; number <= Card.JOKER_COUNT; number++) {
+            CARDS[DECK_SIZE + number - 1] = Card.joker(number);
+        }
+    }
+
+    /**
+     * Validates that the mask only uses the bits of the standard deck and the jokers.
+     *
+     * @throws IllegalArgumentException if a bit outside the deck is set
+     */
+    public CardSet {
+        if ((mask & ~(FULL_DECK_MASK | JOKER_MASK)) != 0) {
+            throw new IllegalArgumentException("Card mask uses bits outside the deck: " + Long.toHexString(mask));
+        }
+    }
+
+    // ==================== CONVERSIONS ====================
+
+    /**
+     * Returns the bit index of a card within a card mask.
+     *
+     * @param card the card to locate
+     * @return the index of the card (0-51, 52-53 for the jokers)
+     */
+    public static int indexOf(Card card) {
+        if (card.isJoker()) {
+            return DECK_SIZE + card.jokerNumber() - 1;
+        }
+        return card.suit().ordinal() * VALUE_COUNT + card.value().ordinal();
+    }
+
+    /**
+     * Returns the single-bit mask of a card.
+     *
+     * @param card the card to locate
+     * @return a mask with only the card's bit set
+     */
+    public static long bitOf(Card card) {
+        return 1L << indexOf(card);
+    }
+
+    /**
+     * Returns the shared card instance stored at a bit index.
+     *
+     * @param index the bit index (0-53)
+     * @return the card at that index
+     */
+    public static Card cardAt(int index) {
+        return CARDS[index];
+    }
+
+    /**
+     * Returns the mask of every card of the given value ordinal, one bit per suit.
+     *
+     * @param rank the value ordinal (0 for TWO up to 12 for ACE)
+     * @return the mask of the four cards of that value
+     */
+    public static long rankMask(int rank) {
+        return RANK_COLUMN << rank;
+    }
+
+    /**
+     * Returns the mask of every card of the given suit ordinal.
+     *
+     * @param suit the suit ordinal
+     * @return the mask of the thirteen cards of that suit
+     */
+    public static long suitMask(int suit) {
+        return SUIT_ROW << (suit * VALUE_COUNT);
+    }
+
+    /**
+     * Creates a set containing the given cards.
+     *
+     * @param cards the cards to include
+     * @return the matching card set
+     */
+    public static CardSet of(Card... cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= bitOf(card);
+        }
+        return new CardSet(mask);
+    }
+
+    /**
+     * Creates a set from any card collection. Duplicates collapse into a single bit.
+     *
+     * @param cards the cards to include
+     * @return the matching card set
+     */
+    public static CardSet fromCards(Collection<Card> cards) {
+        return new CardSet(maskOf(cards));
+    }
+
+    /**
+     * Computes the mask of a card collection without wrapping it in a set.
+     *
+     * @param cards the cards to include
+     * @return the mask of the cards
+     */
+    public static long maskOf(Collection<Card> cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= bitOf(card);
+        }
+        return mask;
+    }
+
+    /**
+     * Materializes the cards of this set, ordered by bit index.
+     *
+     * @return a new mutable list of the cards
+     */
+    public List<Card> toList() {
+        List<Card> cards = new ArrayList<>(size());
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            cards.add(CARDS[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return cards;
+    }
+
+    /**
+     * Exposes this set through the {@link Set} interface without copying or hashing any card.
+     * The view is unmodifiable; membership and size are answered from the mask.
+     *
+     * @return a read-only set view of the cards
+     */
+    public Set<Card> asSet() {
+        return new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Card card && CardSet.this.contains(card);
+            }
+
+            @Override
+            public Iterator<Card> iterator() {
+                return CardSet.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return CardSet.this.size();
+            }
+        };
+    }
+
+    // ==================== SET OPERATIONS ====================
+
+    public CardSet union(CardSet other) {
+        return new CardSet(mask | other.mask);
+    }
+
+    public CardSet intersection(CardSet other) {
+        return new CardSet(mask & other.mask);
+    }
+
+    public CardSet difference(CardSet other) {
+        return new CardSet(mask & ~other.mask);
+    }
+
+    public CardSet with(Card card) {
+        return new CardSet(mask | bitOf(card));
+    }
+
+    public CardSet without(Card card) {
+        return new CardSet(mask & ~bitOf(card));
+    }
+
+    public boolean contains(Card card) {
+        return (mask & bitOf(card)) != 0;
+    }
+
+    public boolean containsAll(CardSet other) {
+        return (other.mask & ~mask) == 0;
+    }
+
+    /**
+     * Returns the number of cards in the set (population count of the mask).
+     *
+     * @return the card count
+     */
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    public boolean isEmpty() {
+        return mask == 0L;
+    }
+
+    /**
+     * @return the number of jokers in the set
+     */
+    public int jokerCount() {
+        return Long.bitCount(mask & JOKER_MASK);
+    }
+
+    /**
+     * @return the set without its jokers
+     */
+    public CardSet withoutJokers() {
+        return new CardSet(mask & FULL_DECK_MASK);
+    }
+
+    /**
+     * Iterates over the cards in bit index order.
+     * Hot loops can walk the mask directly with {@code m &= m - 1} instead.
+     *
+     * @return an iterator over the cards of this set
+     */
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<>() {
+            private long remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Card next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                int index = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return CARDS[index];
+            }
+        };
+    }
+
+    /**
+     * Returns a compact representation of the cards, e.g. "[2♣, A♥]".
+     *
+     * @return the cards of the set in bit index order
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(CARDS[Long.numberOfTrailingZeros(remaining)].toShortString());
+        }
+        return builder.append(']').toString();
+    }
+}
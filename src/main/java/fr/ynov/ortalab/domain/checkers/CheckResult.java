@@ -0,0 +1,52 @@
+package main.java.fr.ynov.ortalab.domain.checkers;
+
+/**
+ * Caller-owned, reusable output of a hand checker.
+ * Holds the matched cards as primitive bitmasks (see CardSet), so a checker can
+ * report its result without allocating any collection.
+ */
+public final class CheckResult {
+    private long usedMask;
+    private long coreMask;
+
+    /**
+     * Clears the result before a new check.
+     */
+    public void reset() {
+        usedMask = 0L;
+        coreMask = 0L;
+    }
+
+    /**
+     * Adds cards forming the combination. They also count as used cards.
+     *
+     * @param cards Bitmask of the core cards
+     */
+    public void addCore(long cards) {
+        coreMask |= cards;
+        usedMask |= cards;
+    }
+
+    /**
+     * Adds kicker cards, which complete the hand without being part of the combination.
+     *
+     * @param cards Bitmask of the kicker cards
+     */
+    public void addKickers(long cards) {
+        usedMask |= cards;
+    }
+
+    /**
+     * @return Bitmask of every card used in the hand (includes kickers)
+     */
+    public long getUsedMask() {
+        return usedMask;
+    }
+
+    /**
+     * @return Bitmask of the core cards of the hand (excludes kickers)
+     */
+    public long getCoreMask() {
+        return coreMask;
+    }
+}
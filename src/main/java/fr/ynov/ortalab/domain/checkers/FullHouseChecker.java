@@ -1,71 +1,44 @@
 package main.java.fr.ynov.ortalab.domain.checkers;
 
-import main.java.fr.ynov.ortalab.domain.card.Card;
-import main.java.fr.ynov.ortalab.domain.card.CardValue;
 import main.java.fr.ynov.ortalab.domain.game.HandType;
+import main.java.fr.ynov.ortalab.domain.utils.HandShape;
 import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
 
-import java.util.List;
-import java.util.Set;
-
 /**
  * Checks for a Full House hand (three cards of one value, two cards of another value).
- * Handles multiple three-of-a-kinds by taking the highest valued one.
+ * Handles multiple three-of-a-kinds by taking the highest valued one; the pair is the
+ * highest remaining value held at least twice, which may be a second three of a kind.
  */
 public class FullHouseChecker implements HandChecker {
 
     @Override
-    public boolean checkHand(List<Card> cards, Set<Card> usedCards, Set<Card> coreCards) {
-        List<CardValue> threesValues = HandUtils.findValueGroups(cards, 3);
-        List<CardValue> pairsValues = HandUtils.findValueGroups(cards, 2);
+    public boolean checkHand(HandShape shape, CheckResult result) {
+        int threesRanks = shape.getRanksWithCount(3);
+        int pairsRanks = shape.getRanksWithCount(2);
 
         // Must have at least one three of a kind
-        if (threesValues.isEmpty()) {
+        if (threesRanks == 0) {
             return false;
         }
 
         // Get the highest three of a kind
-        CardValue bestThreeValue = threesValues.get(0);
-        List<Card> threeCards = cards.stream()
-                .filter(card -> card.value() == bestThreeValue)
-                .limit(3)
-                .toList();
-
-        // Case: Multiple three of a kinds (use highest as trips, second highest as pair)
-        if (threesValues.size() > 1) {
-            CardValue secondThreeValue = threesValues.get(1);
-            List<Card> pairFromThree = cards.stream()
-                    .filter(card -> card.value() == secondThreeValue)
-                    .limit(2)
-                    .toList();
-
-            usedCards.addAll(threeCards);
-            usedCards.addAll(pairFromThree);
-            coreCards.addAll(threeCards);
-            coreCards.addAll(pairFromThree);
-            return true;
-        }
-
-        // Case: One three of a kind + at least one pair
-        if (!pairsValues.isEmpty()) {
-            CardValue bestPairValue = pairsValues.getFirst();
-            List<Card> pairCards = cards.stream()
-                    .filter(card -> card.value() == bestPairValue)
-                    .limit(2)
-                    .toList();
+        int bestThreeRank = HandUtils.highestRank(threesRanks);
+        int otherThreesRanks = threesRanks & ~(1 << bestThreeRank);
 
-            usedCards.addAll(threeCards);
-            usedCards.addAll(pairCards);
-            coreCards.addAll(threeCards);
-            coreCards.addAll(pairCards);
-            return true;
+        // Need another value held at least twice to complete the hand
+        int pairCandidates = otherThreesRanks | pairsRanks;
+        if (pairCandidates == 0) {
+            return false;
         }
+        int pairRank = HandUtils.highestRank(pairCandidates);
 
-        return false;
+        result.addCore(HandUtils.getCardsOfRank(shape, bestThreeRank, 3));
+        result.addCore(HandUtils.getCardsOfRank(shape, pairRank, 2));
+        return true;
     }
 
     @Override
     public HandType getHandType() {
         return HandType.FULL_HOUSE;
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,45 @@
 package main.java.fr.ynov.ortalab.domain.checkers;
 
 import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
 import main.java.fr.ynov.ortalab.domain.game.HandType;
+import main.java.fr.ynov.ortalab.domain.utils.HandShape;
 
-import java.util.List;
 import java.util.Set;
 
 /**
  * Interface for poker hand checkers.
- * Each implementation checks for a specific poker hand type.
+ * Each implementation checks for a specific poker hand type on a precomputed
+ * {@link HandShape}, so the cards are grouped once per evaluation for all checkers.
  */
 public interface HandChecker {
     /**
-     * Checks if the given cards form a specific hand type.
+     * Checks if the given cards form a specific hand type, without allocating.
+     * Matched cards are written as bitmasks into a caller-owned result.
      *
-     * @param cards The cards to check
+     * @param shape The rank and suit histogram of the cards to check
+     * @param result A reset result to be filled with the used and core cards if the hand type is found
+     * @return true if the hand type is found, false otherwise (the result is then left untouched)
+     */
+    boolean checkHand(HandShape shape, CheckResult result);
+
+    /**
+     * Checks if the given cards form a specific hand type, collecting the matched cards into sets.
+     *
+     * @param shape The rank and suit histogram of the cards to check
      * @param usedCards A set to be populated with the cards used in the hand (includes kickers)
      * @param coreCards A set to be populated with the core cards of the hand (excludes kickers)
      * @return true if the hand type is found, false otherwise
      */
-    boolean checkHand(List<Card> cards, Set<Card> usedCards, Set<Card> coreCards);
+    default boolean checkHand(HandShape shape, Set<Card> usedCards, Set<Card> coreCards) {
+        CheckResult result = new CheckResult();
+        if (!checkHand(shape, result)) {
+            return false;
+        }
+        usedCards.addAll(new CardSet(result.getUsedMask()).toList());
+        coreCards.addAll(new CardSet(result.getCoreMask()).toList());
+        return true;
+    }
 
     /**
      * Gets the hand type this checker is responsible for.
@@ -1,12 +1,9 @@
 package main.java.fr.ynov.ortalab.domain.checkers;
 
-import main.java.fr.ynov.ortalab.domain.card.Card;
 import main.java.fr.ynov.ortalab.domain.game.HandType;
+import main.java.fr.ynov.ortalab.domain.utils.HandShape;
 import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
 
-import java.util.List;
-import java.util.Set;
-
 /**
  * Checks for a High Card hand (no other hand type was found).
  * Takes the five highest cards by value.
@@ -14,29 +11,22 @@ import java.util.Set;
 public class HighCardChecker implements HandChecker {
 
     @Override
-    public boolean checkHand(List<Card> cards, Set<Card> usedCards, Set<Card> coreCards) {
-        if (cards.isEmpty()) {
+    public boolean checkHand(HandShape shape, CheckResult result) {
+        if (shape.size() == 0) {
             return false;
         }
 
-        // Get top 5 cards (or all if less than 5)
-        List<Card> topCards = HandUtils.getSortedCards(cards);
-        List<Card> bestFiveCards = topCards.stream()
-                .limit(5)
-                .toList();
+        // Only the highest card is considered "core"
+        long highestCard = HandUtils.getTopCards(shape, 0, 1);
+        result.addCore(highestCard);
 
-        if (!bestFiveCards.isEmpty()) {
-            Card highestCard = bestFiveCards.getFirst();
-            coreCards.add(highestCard);  // Only the highest card is considered "core"
-            usedCards.addAll(bestFiveCards);
-            return true;
-        }
-
-        return false;
+        // Get top 5 cards (or all if less than 5)
+        result.addKickers(HandUtils.getTopCards(shape, 0, 5) & ~highestCard);
+        return true;
     }
 
     @Override
     public HandType getHandType() {
         return HandType.HIGH_CARD;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,9 @@
 package main.java.fr.ynov.ortalab.domain.checkers;
 
-import main.java.fr.ynov.ortalab.domain.card.Card;
-import main.java.fr.ynov.ortalab.domain.card.CardValue;
 import main.java.fr.ynov.ortalab.domain.game.HandType;
+import main.java.fr.ynov.ortalab.domain.utils.HandShape;
 import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
 
-import java.util.List;
-import java.util.Set;
-import java.util.HashSet;
-
 /**
  * Checks for a "Pair" hand (two cards of the same value).
  * Also selects the three highest remaining cards as kickers.
@@ -16,29 +11,19 @@ import java.util.HashSet;
 public class PairChecker implements HandChecker {
 
     @Override
-    public boolean checkHand(List<Card> cards, Set<Card> usedCards, Set<Card> coreCards) {
-        List<CardValue> pairValues = HandUtils.findValueGroups(cards, 2);
+    public boolean checkHand(HandShape shape, CheckResult result) {
+        int pairRanks = shape.getRanksWithCount(2);
 
-        if (pairValues.isEmpty()) {
+        if (pairRanks == 0) {
             return false;
         }
 
         // Get the highest pair
-        CardValue pairValue = pairValues.getFirst();
-        List<Card> pairCards = cards.stream()
-                .filter(card -> card.value() == pairValue)
-                .limit(2)
-                .toList();
-
-        usedCards.addAll(pairCards);
-        coreCards.addAll(pairCards);
+        int pairRank = HandUtils.highestRank(pairRanks);
+        result.addCore(HandUtils.getCardsOfRank(shape, pairRank, 2));
 
         // Find three highest kickers to complete the 5-card hand
-        Set<CardValue> excludeValues = new HashSet<>();
-        excludeValues.add(pairValue);
-        List<Card> kickers = HandUtils.getTopCardsByValue(cards, excludeValues, 3);
-
-        usedCards.addAll(kickers);
+        result.addKickers(HandUtils.getTopCards(shape, 1 << pairRank, 3));
 
         return true;
     }
@@ -47,4 +32,4 @@ public class PairChecker implements HandChecker {
     public HandType getHandType() {
         return HandType.PAIR;
     }
-}
\ No newline at end of file
+}
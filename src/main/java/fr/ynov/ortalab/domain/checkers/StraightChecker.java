@@ -1,29 +1,24 @@
 package main.java.fr.ynov.ortalab.domain.checkers;
 
-import main.java.fr.ynov.ortalab.domain.card.Card;
 import main.java.fr.ynov.ortalab.domain.game.HandType;
+import main.java.fr.ynov.ortalab.domain.utils.HandShape;
 import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
 
-import java.util.List;
-import java.util.Set;
-
 /**
  * Checks for a Straight hand (five consecutive cards of any suit).
- * Uses HandUtils.getStraightCards() to find the straight.
+ * Uses HandUtils.findStraightTop() to find the highest straight, including the wheel (A-5).
  */
 public class StraightChecker implements HandChecker {
 
     @Override
-    public boolean checkHand(List<Card> cards, Set<Card> usedCards, Set<Card> coreCards) {
-        // HandUtils.getStraightCards handles both regular straights and wheel straights (A-5)
-        List<Card> straightCards = HandUtils.getStraightCards(cards);
+    public boolean checkHand(HandShape shape, CheckResult result) {
+        int straightTop = HandUtils.findStraightTop(shape.getRankMask());
 
-        if (straightCards.isEmpty()) {
+        if (straightTop < 0) {
             return false;
         }
 
-        usedCards.addAll(straightCards);
-        coreCards.addAll(straightCards);
+        result.addCore(HandUtils.getStraightCards(shape, straightTop, -1));
         return true;
     }
 
@@ -31,4 +26,4 @@ public class StraightChecker implements HandChecker {
     public HandType getHandType() {
         return HandType.STRAIGHT;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,9 @@
 package main.java.fr.ynov.ortalab.domain.checkers;
 
-import main.java.fr.ynov.ortalab.domain.card.Card;
-import main.java.fr.ynov.ortalab.domain.card.CardValue;
 import main.java.fr.ynov.ortalab.domain.game.HandType;
+import main.java.fr.ynov.ortalab.domain.utils.HandShape;
 import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 /**
  * Checks for a Three of a Kind hand (three cards of the same value).
  * Also selects the two highest remaining cards as kickers.
@@ -16,29 +11,19 @@ import java.util.Set;
 public class ThreeOfAKindChecker implements HandChecker {
 
     @Override
-    public boolean checkHand(List<Card> cards, Set<Card> usedCards, Set<Card> coreCards) {
-        List<CardValue> threeOfAKindValues = HandUtils.findValueGroups(cards, 3);
+    public boolean checkHand(HandShape shape, CheckResult result) {
+        int threeOfAKindRanks = shape.getRanksWithCount(3);
 
-        if (threeOfAKindValues.isEmpty()) {
+        if (threeOfAKindRanks == 0) {
             return false;
         }
 
         // Get the highest three of a kind
-        CardValue tripValue = threeOfAKindValues.getFirst();
-        List<Card> tripCards = cards.stream()
-                .filter(card -> card.value() == tripValue)
-                .limit(3)
-                .toList();
-
-        usedCards.addAll(tripCards);
-        coreCards.addAll(tripCards);
+        int tripRank = HandUtils.highestRank(threeOfAKindRanks);
+        result.addCore(HandUtils.getCardsOfRank(shape, tripRank, 3));
 
         // Find two highest kickers to complete the 5-card hand
-        Set<CardValue> excludeValues = new HashSet<>();
-        excludeValues.add(tripValue);
-        List<Card> kickers = HandUtils.getTopCardsByValue(cards, excludeValues, 2);
-
-        usedCards.addAll(kickers);
+        result.addKickers(HandUtils.getTopCards(shape, 1 << tripRank, 2));
 
         return true;
     }
@@ -47,4 +32,4 @@ public class ThreeOfAKindChecker implements HandChecker {
     public HandType getHandType() {
         return HandType.THREE_OF_A_KIND;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.utils.CombinationUtils;
+
+/**
+ * Best-play damage of hands known by their value counts, under suit-neutral scoring without jokers
+ * (see {@link ScoringTable#isSuitNeutral()}).
+ * A play then deals the same damage whatever the suits of its cards, unless they form a flush:
+ * the damage of every value multiset of 1 to 5 cards, and of every five-rank flush, is scored once,
+ * and the best play of a hand is the best of its sub-multisets, read from the tables with no
+ * hand evaluation. It gives the same damage as {@link PlayAdvisor#bestDamage(long, ScoringTable)}
+ * on any hand with these value counts.
+ * <p>
+ * Multisets are indexed by size, then by the colexicographic rank of their sorted values
+ * v1 &lt;= v2 &lt;= ... &lt;= vk, the sum of C(vi + i - 1, i). The best play of each hand of value
+ * counts is kept once found, at the index of its multiset; entries are written without locking,
+ * as every thread computes the same value.
+ */
+final class BestPlayTable {
+    private static final int RANK_COUNT = CardSet.VALUE_COUNT;
+    private static final int RANK_SETS = 1 << RANK_COUNT;
+    private static final int MAX_PLAY = GameConfig.ACTIVE_HAND_SIZE;
+    private static final int MAX_HAND = 2 * MAX_PLAY - 1;  // A hand holding a flush has a single flush suit
+    private static final int MAX_COPIES = CardSet.SUIT_COUNT;
+    private static final int[][] STEPS = new int[MAX_HAND + 1][RANK_COUNT];  // C(v + i - 1, i) by position i and value v
+    private static final int[] SIZE_OFFSETS = new int[MAX_HAND + 2];  // First index of the multisets of each size
+
+    static {
+        for (int position = 1; position <= MAX_HAND; position++) {
+            for (int rank = 0; rank < RANK_COUNT; rank++) {
+                STEPS[position][rank] = (int) CombinationUtils.binomial(rank + position - 1, position);
+            }
+        }
+        for (int size = 0; size <= MAX_HAND; size++) {
+            SIZE_OFFSETS[size + 1] = SIZE_OFFSETS[size] + (int) CombinationUtils.binomial(RANK_COUNT + size - 1, size);
+        }
+    }
+
+    private final int[] plainDamages = new int[SIZE_OFFSETS[MAX_PLAY + 1]];  // By multiset index, no flush
+    private final int[] bestFlushes = new int[RANK_SETS];  // Best five of the ranks of a flush suit
+    private final int[] bestPlains = new int[SIZE_OFFSETS[MAX_HAND + 1]];  // By multiset index, damage + 1, 0 until found
+
+    /**
+     * Scores every value multiset and every flush with the given bonuses.
+     *
+     * @param scoringTable Suit-neutral bonuses to score with
+     */
+    BestPlayTable(ScoringTable scoringTable) {
+        // Copies of each value are dealt to the suits in turn, so no play is a flush
+        long[] plays = new long[plainDamages.length];
+        collectPlays(plays, 0, 0, 0, 0L, 0);
+        PointsCalculator.calculateScores(scoringTable, plays, plainDamages, false);
+
+        long[] flushes = new long[RANK_SETS];
+        for (long ranks = (1L << MAX_PLAY) - 1; ranks < RANK_SETS; ranks = CombinationUtils.next(ranks)) {
+            flushes[(int) ranks] = ranks;  // In the first suit
+        }
+        PointsCalculator.calculateScores(scoringTable, flushes, bestFlushes, false);
+        for (int ranks = 0; ranks < RANK_SETS; ranks++) {
+            if (Integer.bitCount(ranks) > MAX_PLAY) {
+                for (int rest = ranks; rest != 0; rest &= rest - 1) {
+                    bestFlushes[ranks] = Math.max(bestFlushes[ranks], bestFlushes[ranks & ~(rest & -rest)]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the damage of the best play of a hand.
+     * Any five ranks of the flush suit can be played as a flush; a multiset of five of them
+     * can only be played as a flush when none of its values has a card in another suit.
+     *
+     * @param counts The number of cards of each value, fewer than ten cards in all
+     * @param flushRanks The values held in a suit holding five cards or more, 0 if there is none
+     * @return The highest damage of a play of 1 to 5 cards, 0 for an empty hand
+     */
+    int bestDamage(int[] counts, int flushRanks) {
+        int soloRanks = 0;  // Flush ranks whose only card is of the flush suit
+        for (int ranks = flushRanks; ranks != 0; ranks &= ranks - 1) {
+            int rank = Integer.numberOfTrailingZeros(ranks);
+            if (counts[rank] == 1) {
+                soloRanks |= 1 << rank;
+            }
+        }
+        int plain = Integer.bitCount(soloRanks) < MAX_PLAY ? bestPlain(counts) : bestFrom(counts, 0, 0, 0, 0, soloRanks);
+        return Math.max(plain, bestFlushes[flushRanks]);
+    }
+
+    /**
+     * Finds the best play of a hand with no flush, once for each value counts.
+     */
+    private int bestPlain(int[] counts) {
+        int size = 0;
+        int index = 0;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            for (int copy = 0; copy < counts[rank]; copy++) {
+                index += STEPS[++size][rank];
+            }
+        }
+        index += SIZE_OFFSETS[size];
+        int known = bestPlains[index];
+        if (known == 0) {
+            known = bestFrom(counts, 0, 0, 0, 0, 0) + 1;
+            bestPlains[index] = known;
+        }
+        return known - 1;
+    }
+
+    /**
+     * Visits the sub-multisets extending a multiset with values from rank upwards, except the
+     * five distinct values of soloRanks, which can only be played as a flush.
+     */
+    private int bestFrom(int[] counts, int rank, int size, int index, int ranks, int soloRanks) {
+        int best = 0;
+        for (int value = rank; value < RANK_COUNT; value++) {
+            int subIndex = index;
+            for (int taken = 1; taken <= counts[value] && size + taken <= MAX_PLAY; taken++) {
+                int subSize = size + taken;
+                int subRanks = ranks | 1 << value;
+                subIndex += STEPS[subSize][value];
+                if (subSize < MAX_PLAY) {
+                    best = Math.max(best, plainDamages[SIZE_OFFSETS[subSize] + subIndex]);
+                    best = Math.max(best, bestFrom(counts, value + 1, subSize, subIndex, subRanks, soloRanks));
+                } else if ((subRanks & ~soloRanks) != 0 || Integer.bitCount(subRanks) < MAX_PLAY) {
+                    best = Math.max(best, plainDamages[SIZE_OFFSETS[subSize] + subIndex]);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Builds a card mask for every multiset, at its index. Multisets with more copies of a value
+     * than there are suits cannot be held and are left empty.
+     */
+    private static void collectPlays(long[] plays, int rank, int size, int index, long cards, int suit) {
+        if (size > 0) {
+            plays[SIZE_OFFSETS[size] + index] = cards;
+        }
+        for (int value = rank; value < RANK_COUNT; value++) {
+            int subIndex = index;
+            long subCards = cards;
+            int subSuit = suit;
+            for (int taken = 1; taken <= MAX_COPIES && size + taken <= MAX_PLAY; taken++) {
+                subIndex += STEPS[size + taken][value];
+                subCards |= 1L << (subSuit * RANK_COUNT + value);
+                subSuit = (subSuit + 1) % CardSet.SUIT_COUNT;
+                collectPlays(plays, value + 1, size + taken, subIndex, subCards, subSuit);
+            }
+        }
+    }
+}
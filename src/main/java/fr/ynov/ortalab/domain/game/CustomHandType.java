@@ -0,0 +1,41 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import java.util.function.Predicate;
+
+/**
+ * A hand type added at runtime through {@link HandTypeRegistry}, such as Flush House.
+ * A custom type ranks just above one of the built-in {@link HandType}s; several custom types
+ * above the same built-in type are ordered by their tier.
+ *
+ * @param name The display name of the hand type
+ * @param basePoints The base points awarded for this hand type
+ * @param rankedAbove The built-in hand type this type directly outranks
+ * @param tier The order among the custom types ranked above the same built-in type, from 1
+ * @param matcher Tells whether a hand shape forms this hand type
+ */
+public record CustomHandType(String name, int basePoints, HandType rankedAbove, int tier,
+                             Predicate<HandFeatures> matcher) {
+
+    /**
+     * @param features The shape of a hand
+     * @return true if the shape forms this hand type
+     */
+    public boolean matches(HandFeatures features) {
+        return matcher.test(features);
+    }
+
+    /**
+     * Compares the rank of this type with the rank of a built-in type.
+     *
+     * @param handType A built-in hand type
+     * @return true if this type ranks above it
+     */
+    public boolean outranks(HandType handType) {
+        return rankedAbove.ordinal() >= handType.ordinal();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,157 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exact distribution of the damage of a random outcome, such as the best hand after a discard.
+ * Distinct damages are kept in ascending order with the number of outcomes dealing each of them,
+ * so probabilities are exact ratios of counts.
+ *
+ * @param damages The distinct damages, ascending
+ * @param counts The number of outcomes dealing each damage, at the same index
+ */
+public record DamageDistribution(int[] damages, long[] counts) {
+
+    /**
+     * Copies the arrays so the distribution cannot change after creation.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public DamageDistribution {
+        if (damages.length != counts.length) {
+            throw new IllegalArgumentException("Each damage needs exactly one count");
+        }
+        damages = damages.clone();
+        counts = counts.clone();
+    }
+
+    /**
+     * Builds a distribution from damage counts.
+     *
+     * @param countsByDamage The number of outcomes per damage; zero counts are dropped
+     * @return The distribution
+     */
+    public static DamageDistribution of(Map<Integer, Long> countsByDamage) {
+        int[] damages = countsByDamage.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .mapToInt(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+        long[] counts = new long[damages.length];
+        for (int i = 0; i < damages.length; i++) {
+            counts[i] = countsByDamage.get(damages[i]);
+        }
+        return new DamageDistribution(damages, counts);
+    }
+
+    /**
+     * Builds a distribution from one damage per outcome.
+     *
+     * @param outcomeDamages The damage of every outcome, in any order; sorted in place
+     * @param length The number of outcomes to read
+     * @return The distribution
+     */
+    public static DamageDistribution ofOutcomes(int[] outcomeDamages, int length) {
+        Arrays.sort(outcomeDamages, 0, length);
+        Map<Integer, Long> countsByDamage = new HashMap<>();
+        for (int i = 0; i < length; ) {
+            int end = i;
+            while (end < length && outcomeDamages[end] == outcomeDamages[i]) {
+                end++;
+            }
+            countsByDamage.put(outcomeDamages[i], (long) (end - i));
+            i = end;
+        }
+        return of(countsByDamage);
+    }
+
+    /**
+     * Combines two distributions over disjoint outcomes.
+     *
+     * @param other The other distribution
+     * @return The distribution of all outcomes of both
+     */
+    public DamageDistribution merge(DamageDistribution other) {
+        Map<Integer, Long> countsByDamage = new HashMap<>();
+        for (int i = 0; i < damages.length; i++) {
+            countsByDamage.merge(damages[i], counts[i], Long::sum);
+        }
+        for (int i = 0; i < other.damages.length; i++) {
+            countsByDamage.merge(other.damages[i], other.counts[i], Long::sum);
+        }
+        return of(countsByDamage);
+    }
+
+    /**
+     * @return The number of outcomes
+     */
+    public long getTotal() {
+        return Arrays.stream(counts).sum();
+    }
+
+    /**
+     * @return The mean damage over all outcomes, 0 when there is none
+     */
+    public double getExpectedDamage() {
+        long total = getTotal();
+        if (total == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < damages.length; i++) {
+            sum += (double) damages[i] * counts[i];
+        }
+        return sum / total;
+    }
+
+    /**
+     * Gets the chance of dealing at least some damage, e.g. the health of the enemy.
+     *
+     * @param damage The damage to reach
+     * @return The probability of reaching it, between 0 and 1
+     */
+    public double getProbabilityAtLeast(int damage) {
+        long total = getTotal();
+        if (total == 0) {
+            return 0;
+        }
+        long reached = 0;
+        for (int i = damages.length - 1; i >= 0 && damages[i] >= damage; i--) {
+            reached += counts[i];
+        }
+        return (double) reached / total;
+    }
+
+    /**
+     * @return The lowest damage, 0 when there is no outcome
+     */
+    public int getMinDamage() {
+        return damages.length == 0 ? 0 : damages[0];
+    }
+
+    /**
+     * @return The highest damage, 0 when there is no outcome
+     */
+    public int getMaxDamage() {
+        return damages.length == 0 ? 0 : damages[damages.length - 1];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof DamageDistribution other
+                && Arrays.equals(damages, other.damages) && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(damages) + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d outcomes, expected %.1f, range %d-%d",
+                getTotal(), getExpectedDamage(), getMinDamage(), getMaxDamage());
+    }
+}
@@ -1,6 +1,10 @@
 package main.java.fr.ynov.ortalab.domain.game;
 
+import main.java.fr.ynov.ortalab.config.GameConfig;
 import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardEnhancement;
+import main.java.fr.ynov.ortalab.domain.card.CardEnhancements;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
 import main.java.fr.ynov.ortalab.domain.card.CardSuit;
 import main.java.fr.ynov.ortalab.domain.card.CardValue;
 import main.java.fr.ynov.ortalab.domain.exceptions.DeckException;
@@ -15,35 +19,55 @@ import java.util.LinkedHashSet;
 /**
  * Represents a deck of playing cards with standard operations.
  * Manages card drawing, tracking, and reshuffling.
+ * Besides the 52 standard cards, a deck can hold up to {@link Card#JOKER_COUNT} wild jokers.
+ * Card enhancements belong to the deck and persist through draws and reshuffles.
  */
 public class Deck {
     private List<Card> originalCards;  // The complete set of cards in the standard deck
     private List<Card> availableCards; // Cards currently available for drawing
     private Set<Card> usedCards;       // Cards that have been drawn and not returned
+    private final CardEnhancements enhancements = new CardEnhancements();
 
     /**
-     * Creates a new deck with all standard cards and shuffles them.
+     * Creates a new deck with all standard cards and the configured jokers, and shuffles them.
      * Handles initialization failures with a RuntimeException.
      */
     public Deck() {
+        this(GameConfig.JOKERS_IN_DECK);
+    }
+
+    /**
+     * Creates a new deck with all standard cards and the given number of jokers, and shuffles them.
+     * Handles initialization failures with a RuntimeException.
+     *
+     * @param jokerCount Number of jokers to add, from 0 to {@link Card#JOKER_COUNT}
+     * @throws IllegalArgumentException if jokerCount is out of range
+     */
+    public Deck(int jokerCount) {
+        if (jokerCount < 0 || jokerCount > Card.JOKER_COUNT) {
+            throw new IllegalArgumentException("A deck holds between 0 and " + Card.JOKER_COUNT + " jokers");
+        }
         try {
-            initializeDeck();
+            initializeDeck(jokerCount);
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize deck", e);
         }
     }
 
     /**
-     * Initializes the deck with a standard set of cards (all suits and values).
+     * Initializes the deck with a standard set of cards (all suits and values) and the jokers.
      * Resets the deck to its initial state after initialization.
      */
-    private void initializeDeck() {
+    private void initializeDeck(int jokerCount) {
         originalCards = new ArrayList<>();
         for (CardSuit suit : CardSuit.values()) {
             for (CardValue value : CardValue.values()) {
                 originalCards.add(new Card(value, suit));
             }
         }
+        for (int number = 1; number <= jokerCount; number++) {
+            originalCards.add(Card.joker(number));
+        }
         reset();
     }
 
@@ -146,6 +170,44 @@ public class Deck {
         return availableCards.isEmpty();
     }
 
+    /**
+     * @return Every card of the standard deck, whether drawn or not, jokers excluded
+     */
+    public CardSet getStandardCards() {
+        return CardSet.fromCards(originalCards).withoutJokers();
+    }
+
+    /**
+     * @return The cards that can still be drawn before the deck is reshuffled
+     */
+    public CardSet getRemainingCards() {
+        return CardSet.fromCards(availableCards);
+    }
+
+    /**
+     * @return The number of jokers in this deck
+     */
+    public int getJokerCount() {
+        return originalCards.size() - CardSet.DECK_SIZE;
+    }
+
+    /**
+     * Enhance a card of this deck, replacing its previous enhancement.
+     *
+     * @param card The card to enhance
+     * @param enhancement The new enhancement, NONE to remove it
+     */
+    public void enhance(Card card, CardEnhancement enhancement) {
+        enhancements.set(card, enhancement);
+    }
+
+    /**
+     * @return The enhancements of the cards of this deck
+     */
+    public CardEnhancements getEnhancements() {
+        return enhancements;
+    }
+
     /**
      * @return A defensive copy of the used cards set
      */
@@ -0,0 +1,412 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.utils.CombinationUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the exact distribution of the best-play damage after a discard, over every
+ * redraw possible from the cards left in the deck.
+ * The best-play damage of a hand is the highest damage of a legal play of 1 to 5 of its cards,
+ * scored with the given bonuses, as suggested by {@link PlayAdvisor}. With bonuses, this is not
+ * always the strongest combination: a weaker hand type can deal more.
+ * <p>
+ * When scoring ignores suits ({@link ScoringTable#isSuitNeutral()}), hands with the same
+ * value counts deal the same damage unless they hold a flush, so redraws are counted by value
+ * composition instead of being enumerated: each composition is scored once from a {@link BestPlayTable}
+ * and weighted by its number of redraws, and the redraws completing a flush are counted apart, suit by suit.
+ * Otherwise, or with jokers involved, every redraw is enumerated, split across cores with
+ * fork/join on the highest drawn card: the plays of the hand and deck cards are scored once into
+ * a {@link PlayDamageTable}, and the best play of a redraw is read from the sets of its drawn cards.
+ * Ranking all the discards of a hand runs them in parallel, once for each set of discards
+ * that are equivalent up to a suit permutation (see {@link SuitCanonicalizer}).
+ * <p>
+ * Redraws are taken from the remaining cards only. A discard drawing more cards than remain
+ * would make {@link Player#discard} reset the deck midway, putting back every card, those in
+ * hand included, which card masks cannot represent: such discards are rejected or left out.
+ */
+public final class DiscardCalculator {
+    private static final int RANK_COUNT = CardSet.VALUE_COUNT;
+    private static final int RANK_MASK = (1 << RANK_COUNT) - 1;
+    private static final int COUNT_BITS = 3;  // Per-rank draw count in a packed composition
+    private static final int FLUSH_SIZE = 5;
+
+    private final ScoringTable scoringTable;
+    private final ForkJoinPool pool;
+    private final BestPlayTable bestPlays;  // Null unless scoring ignores suits
+
+    /**
+     * A discard and the damage distribution it leads to.
+     *
+     * @param discard The cards to discard
+     * @param distribution The best-play damage over every redraw
+     */
+    public record DiscardOption(CardSet discard, DamageDistribution distribution) {
+    }
+
+    /**
+     * Kept cards and deck after a discard, in canonical suits.
+     */
+    private record DrawState(long kept, long remaining) {
+    }
+
+    /**
+     * Creates a calculator running on the common fork/join pool.
+     *
+     * @param scoringTable The bonuses to score with
+     */
+    public DiscardCalculator(ScoringTable scoringTable) {
+        this(scoringTable, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a calculator running on the given pool.
+     *
+     * @param scoringTable The bonuses to score with
+     * @param pool The pool executing the calculations
+     */
+    public DiscardCalculator(ScoringTable scoringTable, ForkJoinPool pool) {
+        this.scoringTable = scoringTable;
+        this.pool = pool;
+        this.bestPlays = scoringTable.isSuitNeutral() ? new BestPlayTable(scoringTable) : null;
+    }
+
+    /**
+     * Computes the damage distribution of one discard.
+     * As in {@link Player#discard}, the hand is refilled up to the maximum hand size.
+     *
+     * @param hand The current hand
+     * @param discard The cards to discard, part of the hand
+     * @param remaining The cards left in the deck, none of them in the hand
+     * @return The best-play damage over every redraw
+     * @throws IllegalArgumentException if the discard is not 1 to 5 cards of the hand,
+     *                                  the hand or remaining cards are invalid,
+     *                                  or the redraw needs more cards than remain
+     */
+    public DamageDistribution calculate(CardSet hand, CardSet discard, CardSet remaining) {
+        validate(hand, remaining);
+        if (!hand.containsAll(discard) || discard.isEmpty() || discard.size() > GameConfig.ACTIVE_HAND_SIZE) {
+            throw new IllegalArgumentException("A discard is 1 to " + GameConfig.ACTIVE_HAND_SIZE + " cards of the hand");
+        }
+        if (drawCountOf(hand, discard.mask()) > remaining.size()) {
+            throw new IllegalArgumentException("The deck would be reset during the redraw");
+        }
+        return pool.invoke(ForkJoinTask.adapt(() -> {
+            PlayDamageTable plays = playsOf(hand, remaining);
+            return distributionOf(hand, discard.mask(), remaining.mask(), plays);
+        }));
+    }
+
+    /**
+     * Computes the damage distribution of every discard of 1 to 5 cards, best first.
+     *
+     * @param hand The current hand
+     * @param remaining The cards left in the deck, none of them in the hand
+     * @return Every discard the remaining cards can redraw, by descending expected damage,
+     *         fewer cards first on ties
+     * @throws IllegalArgumentException if the hand or remaining cards are invalid
+     */
+    public List<DiscardOption> rankDiscards(CardSet hand, CardSet remaining) {
+        validate(hand, remaining);
+        List<Long> discards = new ArrayList<>();
+        for (long subset = hand.mask(); subset != 0; subset = (subset - 1) & hand.mask()) {
+            if (Long.bitCount(subset) <= GameConfig.ACTIVE_HAND_SIZE && drawCountOf(hand, subset) <= remaining.size()) {
+                discards.add(subset);
+            }
+        }
+
+        // Discards leaving suit-isomorphic kept cards and deck share their distribution
+        SuitCanonicalizer canonicalizer = scoringTable.getSuitCanonicalizer();
+        Map<DrawState, List<Long>> discardsByState = new LinkedHashMap<>();
+        for (long discard : discards) {
+            SuitCanonicalizer.CanonicalForm form = canonicalizer.canonicalize(hand.mask() & ~discard, remaining.mask());
+            discardsByState.computeIfAbsent(new DrawState(form.hand(), form.deck()), state -> new ArrayList<>()).add(discard);
+        }
+
+        List<DiscardOption> options = pool.invoke(ForkJoinTask.adapt(() -> {
+            PlayDamageTable plays = playsOf(hand, remaining);
+            return discardsByState.values().parallelStream()
+                    .flatMap(sameState -> {
+                        DamageDistribution distribution = distributionOf(hand, sameState.get(0), remaining.mask(), plays);
+                        return sameState.stream().map(discard -> new DiscardOption(new CardSet(discard), distribution));
+                    })
+                    .toList();
+        }));
+        List<DiscardOption> ranked = new ArrayList<>(options);
+        ranked.sort(Comparator.comparingDouble((DiscardOption option) -> -option.distribution().getExpectedDamage())
+                .thenComparingInt(option -> option.discard().size()));
+        return ranked;
+    }
+
+    /**
+     * Scores the best play of a hand, the damage of keeping it as is.
+     *
+     * @param hand The hand to score
+     * @return The best-play damage, 0 for an empty hand
+     * @throws IllegalArgumentException if the hand holds more than the maximum hand size
+     */
+    public int bestPlayDamage(CardSet hand) {
+        return new PlayAdvisor().bestDamage(hand.mask(), scoringTable);
+    }
+
+    private static void validate(CardSet hand, CardSet remaining) {
+        if (hand.size() > GameConfig.MAX_HAND_SIZE) {
+            throw new IllegalArgumentException("A hand holds at most " + GameConfig.MAX_HAND_SIZE + " cards");
+        }
+        if (!hand.intersection(remaining).isEmpty()) {
+            throw new IllegalArgumentException("The remaining cards must not be in the hand");
+        }
+    }
+
+    /**
+     * Counts the cards drawn after a discard: one per discarded card, plus those refilling
+     * the hand up to the maximum hand size, as in {@link Player#discard}.
+     */
+    private static int drawCountOf(CardSet hand, long discard) {
+        return Long.bitCount(discard) + Math.max(0, GameConfig.MAX_HAND_SIZE - hand.size());
+    }
+
+    /**
+     * Picks the counting method for the discards of a hand: by composition, or by enumeration
+     * from the returned table of plays.
+     * Refilled hands hold at most {@link GameConfig#MAX_HAND_SIZE} cards, never two flushes,
+     * as the counting by composition assumes.
+     */
+    private PlayDamageTable playsOf(CardSet hand, CardSet remaining) {
+        boolean jokers = ((hand.mask() | remaining.mask()) & CardSet.JOKER_MASK) != 0;
+        return bestPlays != null && !jokers ? null : new PlayDamageTable(scoringTable, hand.mask(), remaining.mask());
+    }
+
+    /**
+     * Counts a discard with the method picked by {@link #playsOf(CardSet, CardSet)}.
+     */
+    private DamageDistribution distributionOf(CardSet hand, long discard, long remaining, PlayDamageTable plays) {
+        long kept = hand.mask() & ~discard;
+        int drawCount = drawCountOf(hand, discard);
+        if (plays == null) {
+            return countByComposition(kept, remaining, drawCount);
+        }
+        return new DrawTask(plays.bestPlays(kept, drawCount), drawCount,
+                Math.max(0, drawCount - 1), Long.bitCount(remaining)).invoke();
+    }
+
+    // ==================== COUNTING BY COMPOSITION ====================
+
+    /**
+     * Receives a value composition of the drawn cards and its number of redraws.
+     */
+    private interface CompositionVisitor {
+        void visit(int[] drawn, long redraws);
+    }
+
+    private DamageDistribution countByComposition(long kept, long remaining, int drawCount) {
+        Map<Integer, Long> countsByDamage = new HashMap<>();
+        Map<Long, Long> flushRedraws = new HashMap<>();  // By packed composition
+        int[] keptCounts = rankCounts(kept);
+        int[] available = rankCounts(remaining);
+        int[] counts = new int[RANK_COUNT];
+
+        // Redraws completing a flush: the drawn cards of the flush suit are enumerated,
+        // the other drawn cards only matter by value
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            int keptSuit = suitRanks(kept, suit);
+            int remainingSuit = suitRanks(remaining, suit);
+            int needed = FLUSH_SIZE - Integer.bitCount(keptSuit);
+            if (needed > drawCount || needed > Integer.bitCount(remainingSuit)) {
+                continue;
+            }
+            int[] otherAvailable = available.clone();
+            for (int rank = 0; rank < RANK_COUNT; rank++) {
+                otherAvailable[rank] -= (remainingSuit >>> rank) & 1;
+            }
+            for (int drawnSuit = remainingSuit; ; drawnSuit = (drawnSuit - 1) & remainingSuit) {
+                int suitDraws = Integer.bitCount(drawnSuit);
+                if (suitDraws >= needed && suitDraws <= drawCount) {
+                    int flushRanks = keptSuit | drawnSuit;
+                    int finalDrawnSuit = drawnSuit;
+                    forEachComposition(otherAvailable, drawCount - suitDraws, (drawn, redraws) -> {
+                        long key = pack(drawn) + pack(finalDrawnSuit);
+                        flushRedraws.merge(key, redraws, Long::sum);
+                        for (int rank = 0; rank < RANK_COUNT; rank++) {
+                            counts[rank] = keptCounts[rank] + drawn[rank] + ((finalDrawnSuit >>> rank) & 1);
+                        }
+                        int damage = bestPlays.bestDamage(counts, flushRanks);
+                        countsByDamage.merge(damage, redraws, Long::sum);
+                    });
+                }
+                if (drawnSuit == 0) {
+                    break;
+                }
+            }
+        }
+
+        // Every other redraw only matters by the values drawn
+        forEachComposition(available, drawCount, (drawn, redraws) -> {
+            long withoutFlush = redraws - flushRedraws.getOrDefault(pack(drawn), 0L);
+            if (withoutFlush > 0) {
+                for (int rank = 0; rank < RANK_COUNT; rank++) {
+                    counts[rank] = keptCounts[rank] + drawn[rank];
+                }
+                int damage = bestPlays.bestDamage(counts, 0);
+                countsByDamage.merge(damage, withoutFlush, Long::sum);
+            }
+        });
+        return DamageDistribution.of(countsByDamage);
+    }
+
+    /**
+     * Visits every way of drawing count cards by value, with the number of card choices of each.
+     */
+    private static void forEachComposition(int[] available, int count, CompositionVisitor visitor) {
+        visitComposition(available, count, 0, new int[RANK_COUNT], 1L, visitor);
+    }
+
+    private static void visitComposition(int[] available, int count, int rank, int[] drawn, long redraws,
+                                         CompositionVisitor visitor) {
+        if (count == 0) {
+            visitor.visit(drawn, redraws);
+            return;
+        }
+        if (rank == RANK_COUNT) {
+            return;
+        }
+        for (int taken = 0; taken <= Math.min(count, available[rank]); taken++) {
+            drawn[rank] = taken;
+            visitComposition(available, count - taken, rank + 1, drawn, redraws * CombinationUtils.binomial(available[rank], taken), visitor);
+        }
+        drawn[rank] = 0;
+    }
+
+    private static long pack(int[] counts) {
+        long packed = 0L;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            packed |= (long) counts[rank] << (rank * COUNT_BITS);
+        }
+        return packed;
+    }
+
+    private static long pack(int ranks) {
+        long packed = 0L;
+        for (int remaining = ranks; remaining != 0; remaining &= remaining - 1) {
+            packed |= 1L << (Integer.numberOfTrailingZeros(remaining) * COUNT_BITS);
+        }
+        return packed;
+    }
+
+    private static int[] rankCounts(long cards) {
+        int[] counts = new int[RANK_COUNT];
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            counts[rank] = Long.bitCount(cards & CardSet.rankMask(rank));
+        }
+        return counts;
+    }
+
+    private static int suitRanks(long cards, int suit) {
+        return (int) (cards >>> (suit * RANK_COUNT)) & RANK_MASK;
+    }
+
+    // ==================== FULL ENUMERATION ====================
+
+    /**
+     * Counts the redraws whose highest card position among the deck cards lies in [from, to).
+     * Cards are drawn from the highest down: a set of drawn cards then ranks as its lowest position
+     * plus a part known from its higher cards, so the redraws differing by their lowest card read
+     * consecutive entries of the best plays.
+     */
+    @SuppressWarnings("serial")  // Fork/join tasks are never serialized
+    private static final class DrawTask extends RecursiveTask<DamageDistribution> {
+        private static final int OFFSETS = GameConfig.ACTIVE_HAND_SIZE + 1;
+
+        private final int[][] bestPlays;
+        private final int drawCount;
+        private final int from;
+        private final int to;
+        private int[] sizes;  // Sets of the cards drawn so far that can grow into a play
+        private int[] offsets;  // By set, then by number of lower cards joining it: the rank part of its cards
+        private int[] damages;
+        private int count;
+
+        /**
+         * @param bestPlays The best plays with each set of drawn cards, from {@link PlayDamageTable#bestPlays}
+         */
+        DrawTask(int[][] bestPlays, int drawCount, int from, int to) {
+            this.bestPlays = bestPlays;
+            this.drawCount = drawCount;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected DamageDistribution compute() {
+            if (drawCount == 0) {
+                return DamageDistribution.ofOutcomes(new int[]{bestPlays[0][0]}, 1);
+            }
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                DrawTask low = new DrawTask(bestPlays, drawCount, from, middle);
+                low.fork();
+                DamageDistribution high = new DrawTask(bestPlays, drawCount, middle, to).compute();
+                return low.join().merge(high);
+            }
+
+            damages = new int[(int) CombinationUtils.binomial(from, drawCount - 1)];
+            sizes = new int[1 << drawCount];
+            offsets = new int[(1 << drawCount) * OFFSETS];
+            // The first set is empty, for the kept cards alone
+            draw(from, from + 1, 0, 1, bestPlays[0][0]);
+            return DamageDistribution.ofOutcomes(damages, count);
+        }
+
+        /**
+         * Draws a card at each position in [low, high), below depth cards already drawn, then the
+         * cards below it. The first length sets are those of the cards already drawn, and best is
+         * the best play among them.
+         */
+        private void draw(int low, int high, int depth, int length, int best) {
+            int maxDrawn = bestPlays.length - 1;
+            if (depth == drawCount - 1) {
+                // Last card: each set grows with it into consecutive ranks
+                Arrays.fill(damages, count, count + high - low, best);
+                for (int set = 0; set < length; set++) {
+                    int[] plays = bestPlays[sizes[set] + 1];
+                    int shift = offsets[set * OFFSETS + 1] + low - count;
+                    for (int redraw = count; redraw < count + high - low; redraw++) {
+                        damages[redraw] = Math.max(damages[redraw], plays[redraw + shift]);
+                    }
+                }
+                count += high - low;
+                return;
+            }
+            for (int position = low; position < high; position++) {
+                int extended = length;
+                int extendedBest = best;
+                for (int set = 0; set < length; set++) {
+                    int size = sizes[set] + 1;
+                    int rank = position + offsets[set * OFFSETS + 1];
+                    extendedBest = Math.max(extendedBest, bestPlays[size][rank]);
+                    if (size < maxDrawn) {
+                        sizes[extended] = size;
+                        offsets[extended * OFFSETS] = rank;
+                        for (int lower = 1; size + lower <= maxDrawn; lower++) {
+                            offsets[extended * OFFSETS + lower] = (int) CombinationUtils.binomial(position, lower + 1)
+                                    + offsets[set * OFFSETS + lower + 1];
+                        }
+                        extended++;
+                    }
+                }
+                draw(drawCount - depth - 2, position, depth + 1, extended, extendedBest);
+            }
+        }
+    }
+}
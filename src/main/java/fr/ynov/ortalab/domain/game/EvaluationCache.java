@@ -0,0 +1,325 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe memo of hand evaluations keyed by the card bitmask.
+ * Entries are spread over independently locked segments; each segment keeps its keys in a
+ * primitive open-addressing index and evicts with the configured policy once full.
+ * A hit returns the stored immutable result as is, so repeat evaluations allocate nothing.
+ */
+public final class EvaluationCache {
+    private static final int SEGMENT_COUNT = 16;
+
+    private static final EvaluationCache SHARED = new EvaluationCache(
+            GameConfig.EVALUATION_CACHE_CAPACITY, GameConfig.EVALUATION_CACHE_EVICTION);
+
+    private final Segment[] segments;
+    private final Eviction eviction;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Replacement policies available once a segment is full.
+     */
+    public enum Eviction {
+        LRU,   // Evicts the least recently read or written entry
+        CLOCK  // Second-chance approximation of LRU, cheaper on hits
+    }
+
+    /**
+     * Creates a cache holding at most about the given number of entries.
+     *
+     * @param capacity Maximum number of cached evaluations (rounded up to a multiple of the segment count)
+     * @param eviction Policy used to pick the entry to replace when full
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public EvaluationCache(int capacity, Eviction eviction) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.eviction = eviction;
+        this.segments = new Segment[SEGMENT_COUNT];
+        int segmentCapacity = (capacity + SEGMENT_COUNT - 1) / SEGMENT_COUNT;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity, eviction);
+        }
+    }
+
+    /**
+     * @return The process-wide cache used by {@link HandEvaluator}
+     */
+    public static EvaluationCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Looks up a previous evaluation of the given cards and records a hit or a miss.
+     *
+     * @param cards The card mask to look up
+     * @return The cached result, or null if the cards were not evaluated recently
+     */
+    public EvaluationResult get(long cards) {
+        long hash = mix(cards);
+        EvaluationResult entry = segmentFor(hash).get(cards, hash);
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Stores an evaluation, replacing any previous entry for the same cards.
+     *
+     * @param entry The evaluation to cache
+     */
+    public void put(EvaluationResult entry) {
+        long hash = mix(entry.cards());
+        segmentFor(hash).put(entry, hash);
+    }
+
+    /**
+     * Removes every entry. Hit and miss counters are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return The number of entries currently cached
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The share of lookups answered from the cache, between 0 and 1
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> 60) & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Spreads the card bits over the whole word (MurmurHash3 finalizer).
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    /**
+     * Fixed-size slice of the cache guarded by its own lock.
+     * Slots hold the entries; the index maps a key to its slot with linear probing.
+     */
+    private static final class Segment {
+        private static final int EMPTY = -1;
+
+        private final Eviction eviction;
+        private final EvaluationResult[] slots;
+        private final int[] index;
+        private final int indexMask;
+        private int size;
+
+        // LRU bookkeeping: doubly linked list of slots, head is the most recently used
+        private final int[] previous;
+        private final int[] next;
+        private int head = EMPTY;
+        private int tail = EMPTY;
+
+        // CLOCK bookkeeping: reference bit per slot and the clock hand
+        private final boolean[] referenced;
+        private int hand;
+
+        Segment(int capacity, Eviction eviction) {
+            this.eviction = eviction;
+            this.slots = new EvaluationResult[capacity];
+            this.index = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+            this.indexMask = index.length - 1;
+            Arrays.fill(index, EMPTY);
+            this.previous = eviction == Eviction.LRU ? new int[capacity] : null;
+            this.next = eviction == Eviction.LRU ? new int[capacity] : null;
+            this.referenced = eviction == Eviction.CLOCK ? new boolean[capacity] : null;
+        }
+
+        synchronized EvaluationResult get(long cards, long hash) {
+            int position = find(cards, hash);
+            if (position == EMPTY) {
+                return null;
+            }
+            int slot = index[position];
+            touch(slot);
+            return slots[slot];
+        }
+
+        synchronized void put(EvaluationResult entry, long hash) {
+            int position = find(entry.cards(), hash);
+            if (position != EMPTY) {
+                int slot = index[position];
+                slots[slot] = entry;
+                touch(slot);
+                return;
+            }
+
+            int slot;
+            if (size < slots.length) {
+                slot = size++;
+            } else {
+                slot = selectVictim();
+                EvaluationResult victim = slots[slot];
+                removeFromIndex(find(victim.cards(), mix(victim.cards())));
+                unlink(slot);
+            }
+
+            slots[slot] = entry;
+            insertIntoIndex(hash, slot);
+            link(slot);
+        }
+
+        synchronized void clear() {
+            Arrays.fill(slots, null);
+            Arrays.fill(index, EMPTY);
+            size = 0;
+            head = EMPTY;
+            tail = EMPTY;
+            hand = 0;
+            if (referenced != null) {
+                Arrays.fill(referenced, false);
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        // ==================== INDEX ====================
+
+        /**
+         * @return The index position holding the key, or EMPTY if absent
+         */
+        private int find(long cards, long hash) {
+            for (int position = (int) hash & indexMask; index[position] != EMPTY; position = (position + 1) & indexMask) {
+                if (slots[index[position]].cards() == cards) {
+                    return position;
+                }
+            }
+            return EMPTY;
+        }
+
+        private void insertIntoIndex(long hash, int slot) {
+            int position = (int) hash & indexMask;
+            while (index[position] != EMPTY) {
+                position = (position + 1) & indexMask;
+            }
+            index[position] = slot;
+        }
+
+        /**
+         * Deletes an index position and shifts back the following keys of the probe run,
+         * so lookups never need tombstones.
+         */
+        private void removeFromIndex(int position) {
+            index[position] = EMPTY;
+            for (int current = (position + 1) & indexMask; index[current] != EMPTY; current = (current + 1) & indexMask) {
+                int home = (int) mix(slots[index[current]].cards()) & indexMask;
+                // Move the key back if its home position is not inside (position, current]
+                if (((current - home) & indexMask) >= ((current - position) & indexMask)) {
+                    index[position] = index[current];
+                    index[current] = EMPTY;
+                    position = current;
+                }
+            }
+        }
+
+        // ==================== EVICTION ====================
+
+        private void touch(int slot) {
+            if (eviction == Eviction.CLOCK) {
+                referenced[slot] = true;
+            } else if (slot != head) {
+                unlink(slot);
+                link(slot);
+            }
+        }
+
+        private void link(int slot) {
+            if (eviction == Eviction.CLOCK) {
+                referenced[slot] = false;
+                return;
+            }
+            previous[slot] = EMPTY;
+            next[slot] = head;
+            if (head != EMPTY) {
+                previous[head] = slot;
+            }
+            head = slot;
+            if (tail == EMPTY) {
+                tail = slot;
+            }
+        }
+
+        private void unlink(int slot) {
+            if (eviction == Eviction.CLOCK) {
+                return;
+            }
+            int before = previous[slot];
+            int after = next[slot];
+            if (before != EMPTY) {
+                next[before] = after;
+            } else {
+                head = after;
+            }
+            if (after != EMPTY) {
+                previous[after] = before;
+            } else {
+                tail = before;
+            }
+        }
+
+        private int selectVictim() {
+            if (eviction == Eviction.LRU) {
+                return tail;
+            }
+            // Give referenced slots a second chance before evicting them
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = (hand + 1) % slots.length;
+            }
+            int victim = hand;
+            hand = (hand + 1) % slots.length;
+            return victim;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+import java.util.Set;
+
+/**
+ * Immutable outcome of evaluating a hand.
+ * Cards are kept as bitmasks (see {@link CardSet}); card sets are only built when asked for.
+ *
+ * @param cards The evaluated cards
+ * @param handType The hand type found
+ * @param usedMask The cards used by the hand, kickers included
+ * @param coreMask The cards forming the combination, kickers excluded
+ * @param strength The total-order strength of the hand (see {@link HandStrength})
+ * @param customType The custom hand type formed by the cards, or null for a built-in one;
+ *                   handType then holds the built-in type the cards would have had
+ */
+public record EvaluationResult(long cards, HandType handType, long usedMask, long coreMask, int strength,
+                               CustomHandType customType) {
+
+    /**
+     * Creates a result, computing its strength from the hand type and masks.
+     *
+     * @param cards The evaluated cards
+     * @param handType The hand type found
+     * @param usedMask The cards used by the hand, kickers included
+     * @param coreMask The cards forming the combination, kickers excluded
+     */
+    public EvaluationResult(long cards, HandType handType, long usedMask, long coreMask) {
+        this(cards, handType, usedMask, coreMask, HandStrength.of(handType, usedMask, coreMask));
+    }
+
+    /**
+     * Creates a result of a built-in hand type.
+     *
+     * @param cards The evaluated cards
+     * @param handType The hand type found
+     * @param usedMask The cards used by the hand, kickers included
+     * @param coreMask The cards forming the combination, kickers excluded
+     * @param strength The total-order strength of the hand
+     */
+    public EvaluationResult(long cards, HandType handType, long usedMask, long coreMask, int strength) {
+        this(cards, handType, usedMask, coreMask, strength, null);
+    }
+
+    /**
+     * @return true if the cards form a custom hand type
+     */
+    public boolean isCustom() {
+        return customType != null;
+    }
+
+    /**
+     * @return The display name of the hand type, custom or built-in
+     */
+    public String getName() {
+        return customType != null ? customType.name() : handType.getName();
+    }
+
+    /**
+     * @return The base points of the hand type, custom or built-in
+     */
+    public int getBasePoints() {
+        return customType != null ? customType.basePoints() : handType.getBasePoints();
+    }
+
+    /**
+     * @return The number of selected cards that are not part of the combination
+     */
+    public int getNonCoreCount() {
+        return Long.bitCount(cards & ~coreMask);
+    }
+
+    /**
+     * @return A read-only view of all used cards, including kickers
+     */
+    public Set<Card> getUsedCards() {
+        return new CardSet(usedMask).asSet();
+    }
+
+    /**
+     * @return A read-only view of the core cards, not including kickers
+     */
+    public Set<Card> getCoreCards() {
+        return new CardSet(coreMask).asSet();
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " " + new CardSet(coreMask);
+    }
+}
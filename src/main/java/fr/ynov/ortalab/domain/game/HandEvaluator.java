@@ -1,44 +1,236 @@
 package main.java.fr.ynov.ortalab.domain.game;
 
+import main.java.fr.ynov.ortalab.config.GameConfig;
 import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
 import main.java.fr.ynov.ortalab.domain.checkers.*;
+import main.java.fr.ynov.ortalab.domain.utils.CombinationUtils;
+import main.java.fr.ynov.ortalab.domain.utils.HandShape;
+import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Evaluates a set of cards to determine the best possible poker hand.
- * Uses a chain of responsibility pattern with different checkers to identify hand types.
+ * Uses a chain of responsibility pattern with different checkers to identify hand types,
+ * or the equivalent table-driven {@link LookupHandEvaluator} depending on the chosen strategy.
+ * An instance can be reused with {@link #evaluate(long)}: results are kept as card masks and
+ * exposed as an immutable {@link EvaluationResult}, so repeated evaluations allocate nothing.
+ * Custom hand types registered in {@link HandTypeRegistry} are resolved after the built-in
+ * evaluation with a table read per five-card combination; the cards forming one are all core.
+ * Hands holding jokers always go through {@link WildHandEvaluator}, whatever the strategy,
+ * and never form a custom hand type.
  */
-public class HandEvaluator {
-    private final List<Card> cards;
+public final class HandEvaluator {
+    /**
+     * Stateless checkers shared by all evaluators, in order from highest to lowest rank.
+     * The order is important as it determines which hand takes precedence.
+     */
+    private static final HandChecker[] CHECKERS = {
+            new RoyalFlushChecker(),
+            new StraightFlushChecker(),
+            new FourOfAKindChecker(),
+            new FullHouseChecker(),
+            new FlushChecker(),
+            new StraightChecker(),
+            new ThreeOfAKindChecker(),
+            new TwoPairsChecker(),
+            new PairChecker(),
+            new HighCardChecker()
+    };
+
+    private final Strategy strategy;
+    private final EvaluationCache cache;
+
+    // Reusable working state, allocated once per evaluator
+    private final HandShape shape;
+    private final CheckResult checkResult;
+    private final LookupHandEvaluator lookup;
+    private WildHandEvaluator wild;  // Created on the first hand holding a joker
+
+    private long cards;
     private HandType handType;
-    private final Set<Card> usedCards;  // All cards used in the hand (including kickers)
-    private final Set<Card> coreCards;  // Only the essential cards for the combination
-    private final List<HandChecker> checkers;
+    private CustomHandType customType;  // Overrides handType when the cards form a custom type
+    private long usedMask;  // All cards used in the hand (including kickers)
+    private long coreMask;  // Only the essential cards for the combination
+    private int strength;   // Hand type, combination ranks and kickers packed for comparison, 0 until first read
+    private EvaluationResult result;  // Built on demand unless it comes from the cache
+
+    /**
+     * Available implementations for evaluating a hand.
+     */
+    public enum Strategy {
+        CHECKER_CHAIN,  // Reference implementation, one HandChecker per hand type
+        LOOKUP_TABLE    // Bitmask and lookup table implementation, same results
+    }
 
     /**
-     * Creates a new HandEvaluator for the given cards.
+     * Creates a reusable evaluator holding no hand yet.
+     * Call {@link #evaluate(long)} before reading any result.
+     *
+     * @param strategy The evaluation implementation to use
+     * @param cache The cache to read and fill, or null to always evaluate
+     */
+    public HandEvaluator(Strategy strategy, EvaluationCache cache) {
+        this.strategy = strategy;
+        this.cache = cache;
+        this.shape = strategy == Strategy.CHECKER_CHAIN ? new HandShape() : null;
+        this.checkResult = strategy == Strategy.CHECKER_CHAIN ? new CheckResult() : null;
+        this.lookup = strategy == Strategy.LOOKUP_TABLE ? new LookupHandEvaluator() : null;
+    }
+
+    /**
+     * Creates a new HandEvaluator for the given cards, using the configured strategy.
      *
      * @param cards The cards to evaluate
      * @throws IllegalArgumentException if cards is null or empty
      */
     public HandEvaluator(List<Card> cards) {
+        this(cards, GameConfig.HAND_EVALUATION_STRATEGY);
+    }
+
+    /**
+     * Creates a new HandEvaluator for the given cards, using the given strategy.
+     * Results are memoized in the shared {@link EvaluationCache}.
+     *
+     * @param cards The cards to evaluate
+     * @param strategy The evaluation implementation to use
+     * @throws IllegalArgumentException if cards is null or empty
+     */
+    public HandEvaluator(List<Card> cards, Strategy strategy) {
+        this(cards, strategy, EvaluationCache.shared());
+    }
+
+    /**
+     * Creates a new HandEvaluator for the given cards, using the given strategy and cache.
+     *
+     * @param cards The cards to evaluate
+     * @param strategy The evaluation implementation to use
+     * @param cache The cache to read and fill, or null to always evaluate
+     * @throws IllegalArgumentException if cards is null or empty
+     */
+    public HandEvaluator(List<Card> cards, Strategy strategy, EvaluationCache cache) {
+        this(strategy, cache);
         if (cards == null || cards.isEmpty()) {
             throw new IllegalArgumentException("A hand must contain at least one card");
         }
-        this.cards = new ArrayList<>(cards);
-        this.usedCards = new HashSet<>();
-        this.coreCards = new HashSet<>();
+        evaluate(CardSet.maskOf(cards));
+    }
 
-        // Initialize checkers in order from highest to lowest rank
-        this.checkers = new ArrayList<>();
-        initializeCheckers();
+    /**
+     * Creates a new HandEvaluator for the cards of a bitmask card set, using the configured strategy.
+     *
+     * @param cards The cards to evaluate
+     * @throws IllegalArgumentException if cards is null or empty
+     */
+    public HandEvaluator(CardSet cards) {
+        this(cards, GameConfig.HAND_EVALUATION_STRATEGY);
+    }
 
+    /**
+     * Creates a new HandEvaluator for the cards of a bitmask card set, using the given strategy.
+     *
+     * @param cards The cards to evaluate
+     * @param strategy The evaluation implementation to use
+     * @throws IllegalArgumentException if cards is null or empty
+     */
+    public HandEvaluator(CardSet cards, Strategy strategy) {
+        this(cards, strategy, EvaluationCache.shared());
+    }
+
+    /**
+     * Creates a new HandEvaluator for the cards of a bitmask card set, using the given strategy and cache.
+     *
+     * @param cards The cards to evaluate
+     * @param strategy The evaluation implementation to use
+     * @param cache The cache to read and fill, or null to always evaluate
+     * @throws IllegalArgumentException if cards is null or empty
+     */
+    public HandEvaluator(CardSet cards, Strategy strategy, EvaluationCache cache) {
+        this(strategy, cache);
+        if (cards == null || cards.isEmpty()) {
+            throw new IllegalArgumentException("A hand must contain at least one card");
+        }
+        evaluate(cards.mask());
+    }
+
+    /**
+     * Finds the strongest five-card combination among 5 to 8 cards, such as a full dealt hand.
+     * The table-driven evaluator grades the whole set in a single pass, which gives the same
+     * hand as grading every five-card subset and keeping the best one; custom hand types are
+     * looked for among the five-card subsets.
+     *
+     * @param cards The cards to choose from
+     * @return An evaluator whose used cards are exactly the five chosen cards
+     * @throws IllegalArgumentException if cards holds fewer than 5 or more than 8 cards
+     */
+    public static HandEvaluator bestFiveOf(CardSet cards) {
+        if (cards == null || cards.size() < GameConfig.ACTIVE_HAND_SIZE || cards.size() > GameConfig.MAX_HAND_SIZE) {
+            throw new IllegalArgumentException("Best hand search needs between "
+                    + GameConfig.ACTIVE_HAND_SIZE + " and " + GameConfig.MAX_HAND_SIZE + " cards");
+        }
+        return new HandEvaluator(cards, Strategy.LOOKUP_TABLE);
+    }
+
+    // ==================== REUSABLE EVALUATION ====================
+
+    /**
+     * Evaluates new cards, replacing the previous result of this evaluator.
+     * Allocates nothing unless the result has to be added to the cache.
+     *
+     * @param cards The bitmask of the cards to evaluate (see {@link CardSet})
+     * @return The hand type found
+     * @throws IllegalArgumentException if no card is given
+     */
+    public HandType evaluate(long cards) {
+        if (cards == 0L) {
+            throw new IllegalArgumentException("A hand must contain at least one card");
+        }
+        reset();
+        this.cards = cards;
         evaluateHand();
+        return handType;
+    }
+
+    /**
+     * Evaluates new cards, replacing the previous result of this evaluator.
+     *
+     * @param cards The cards to evaluate
+     * @return The hand type found
+     * @throws IllegalArgumentException if no card is given
+     */
+    public HandType evaluate(CardSet cards) {
+        return evaluate(cards.mask());
+    }
+
+    /**
+     * Forgets the current hand. Results cannot be read until the next evaluation.
+     */
+    public void reset() {
+        cards = 0L;
+        handType = null;
+        customType = null;
+        usedMask = 0L;
+        coreMask = 0L;
+        strength = 0;
+        result = null;
+    }
+
+    // ==================== RESULTS ====================
+
+    /**
+     * Gets the typed outcome of the evaluation.
+     *
+     * @return The immutable evaluation result
+     */
+    public EvaluationResult getResult() {
+        requireHand();
+        if (result == null) {
+            result = new EvaluationResult(cards, handType, usedMask, coreMask, getStrength(), customType);
+        }
+        return result;
     }
 
     /**
@@ -47,7 +239,8 @@ public class HandEvaluator {
      * @return The hand type name as a string
      */
     public String getHandType() {
-        return handType.getName();
+        requireHand();
+        return customType != null ? customType.name() : handType.getName();
     }
 
     /**
@@ -56,66 +249,223 @@ public class HandEvaluator {
      * @return The base points
      */
     public int getPoints() {
-        return handType.getBasePoints();
+        requireHand();
+        return customType != null ? customType.basePoints() : handType.getBasePoints();
+    }
+
+    /**
+     * @return The built-in hand type of the cards, kept under a custom hand type
+     */
+    public HandType getBuiltInType() {
+        requireHand();
+        return handType;
+    }
+
+    /**
+     * @return The custom hand type formed by the cards, or null for a built-in hand type
+     */
+    public CustomHandType getCustomType() {
+        requireHand();
+        return customType;
+    }
+
+    /**
+     * @return The bitmask of the evaluated cards
+     */
+    public long getCards() {
+        return cards;
+    }
+
+    /**
+     * Gets the strength of the hand, including its ranks and kickers.
+     * A stronger hand always has a higher strength, and equal hands have equal strengths.
+     *
+     * @return The strength score (see {@link HandStrength})
+     */
+    public int getStrength() {
+        requireHand();
+        if (strength == 0) {
+            // Packed on demand, as scoring-only callers never read it
+            strength = HandStrength.of(handType, usedMask, coreMask);
+        }
+        return strength;
+    }
+
+    /**
+     * Computes the strength of a card set, going through the shared cache.
+     *
+     * @param cards The cards to evaluate
+     * @return The strength score, or 0 for an empty set
+     */
+    public static int strengthOf(CardSet cards) {
+        return cards.isEmpty() ? 0 : new HandEvaluator(cards).getStrength();
+    }
+
+    /**
+     * Orders card sets from the weakest to the strongest hand.
+     * When sorting many sets, prefer computing {@link #strengthOf(CardSet)} once per set.
+     *
+     * @return A comparator by hand strength
+     */
+    public static Comparator<CardSet> byStrength() {
+        return Comparator.comparingInt(HandEvaluator::strengthOf);
+    }
+
+    /**
+     * @return The bitmask of all used cards, including kickers
+     */
+    public long getUsedMask() {
+        requireHand();
+        return usedMask;
+    }
+
+    /**
+     * @return The bitmask of the core cards, not including kickers
+     */
+    public long getCoreMask() {
+        requireHand();
+        return coreMask;
     }
 
     /**
      * Gets all cards that were used in the hand, including kickers.
      *
-     * @return An unmodifiable set of all used cards
+     * @return A read-only view of all used cards
      */
     public Set<Card> getUsedCards() {
-        return Collections.unmodifiableSet(usedCards);
+        return getResult().getUsedCards();
     }
 
     /**
      * Gets only the core cards that form the hand combination, not including kickers.
      *
-     * @return An unmodifiable set of the core cards
+     * @return A read-only view of the core cards
      */
     public Set<Card> getCoreCards() {
-        return Collections.unmodifiableSet(coreCards);
+        return getResult().getCoreCards();
     }
 
-    /**
-     * Initializes all the hand checkers in order from highest to lowest rank.
-     * The order is important as it determines which hand takes precedence.
-     */
-    private void initializeCheckers() {
-        checkers.add(new RoyalFlushChecker());
-        checkers.add(new StraightFlushChecker());
-        checkers.add(new FourOfAKindChecker());
-        checkers.add(new FullHouseChecker());
-        checkers.add(new FlushChecker());
-        checkers.add(new StraightChecker());
-        checkers.add(new ThreeOfAKindChecker());
-        checkers.add(new TwoPairsChecker());
-        checkers.add(new PairChecker());
-        checkers.add(new HighCardChecker());
-    }
+    // ==================== EVALUATION ====================
 
     /**
      * Evaluates the hand to find the best possible poker combination.
-     * Tries each checker in order of rank until one succeeds.
+     * Answers from the cache when the same cards were evaluated before,
+     * otherwise runs the selected strategy and caches its result.
      */
     private void evaluateHand() {
-        usedCards.clear();
-        coreCards.clear();
+        EvaluationResult cached = cache != null ? cache.get(cards) : null;
+        if (cached != null) {
+            handType = cached.handType();
+            usedMask = cached.usedMask();
+            coreMask = cached.coreMask();
+            strength = cached.strength();
+            customType = cached.customType();
+            result = cached;
+            return;
+        }
 
-        // Try each checker in order (from the highest rank to lowest)
-        for (HandChecker checker : checkers) {
-            if (checker.checkHand(cards, usedCards, coreCards)) {
-                handType = checker.getHandType();
+        if ((cards & CardSet.JOKER_MASK) != 0) {
+            evaluateWithJokers();
+        } else if (strategy == Strategy.LOOKUP_TABLE) {
+            lookup.evaluate(cards);
+            store(lookup.getHandType(), lookup.getUsedMask(), lookup.getCoreMask());
+        } else {
+            evaluateWithCheckers();
+        }
+        if (!HandTypeRegistry.isEmpty() && (cards & CardSet.JOKER_MASK) == 0) {
+            applyCustomType();
+        }
+
+        if (cache != null) {
+            cache.put(getResult());
+        }
+    }
+
+    /**
+     * Groups the cards once, then tries each checker in order of rank until one succeeds.
+     */
+    private void evaluateWithCheckers() {
+        shape.load(cards);
+        for (HandChecker checker : CHECKERS) {
+            checkResult.reset();
+            if (checker.checkHand(shape, checkResult)) {
+                store(checker.getHandType(), checkResult.getUsedMask(), checkResult.getCoreMask());
                 return;
             }
         }
 
         // If we get here, we have nothing (should never happen with HighCardChecker)
-        handType = HandType.HIGH_CARD;
+        store(HandType.HIGH_CARD, 0L, 0L);
+    }
+
+    /**
+     * Finds the best completion of a hand holding jokers. The strength is the one of the
+     * completed hand, as jokers have no rank of their own.
+     */
+    private void evaluateWithJokers() {
+        if (wild == null) {
+            wild = new WildHandEvaluator();
+        }
+        wild.evaluate(cards);
+        this.handType = wild.getHandType();
+        this.usedMask = wild.getUsedMask();
+        this.coreMask = wild.getCoreMask();
+        this.strength = wild.getStrength();
+    }
+
+    /**
+     * Replaces the built-in result when the cards form a custom hand type that outranks it.
+     * A playable selection forms a type with all of its cards; from more cards, such as a full
+     * hand searched by {@link #bestFiveOf(CardSet)}, a type has to be formed by five of them,
+     * so every five-card subset is tried. The built-in hand type is kept, as scoring effects
+     * still target it.
+     */
+    private void applyCustomType() {
+        if (Long.bitCount(cards) <= GameConfig.ACTIVE_HAND_SIZE) {
+            CustomHandType custom = HandTypeRegistry.classify(LookupHandEvaluator.featureIndexOf(cards));
+            if (custom != null) {
+                storeCustom(custom, cards, HandStrength.of(custom, cards));
+            }
+            return;
+        }
+        for (long subset = HandUtils.lowestCards(cards, GameConfig.ACTIVE_HAND_SIZE); subset != 0;
+             subset = CombinationUtils.next(subset, cards)) {
+            CustomHandType custom = HandTypeRegistry.classify(LookupHandEvaluator.featureIndexOf(subset));
+            if (custom != null) {
+                int subsetStrength = HandStrength.of(custom, subset);
+                if (subsetStrength > getStrength()) {
+                    storeCustom(custom, subset, subsetStrength);
+                }
+            }
+        }
+    }
+
+    private void storeCustom(CustomHandType custom, long formed, int formedStrength) {
+        this.customType = custom;
+        this.usedMask = formed;
+        this.coreMask = formed;
+        this.strength = formedStrength;
+    }
+
+    private void store(HandType type, long used, long core) {
+        this.handType = type;
+        this.usedMask = used;
+        this.coreMask = core;
+        this.strength = 0;
+    }
+
+    private HandType requireHand() {
+        if (handType == null) {
+            throw new IllegalStateException("No hand has been evaluated");
+        }
+        return handType;
     }
 
     @Override
     public String toString() {
-        return handType + " (" + handType.getBasePoints() + " base points)";
+        if (handType == null) {
+            return "No hand";
+        }
+        return getHandType() + " (" + getPoints() + " base points)";
     }
-}
\ No newline at end of file
+}
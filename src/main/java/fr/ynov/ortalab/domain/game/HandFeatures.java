@@ -0,0 +1,86 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+/**
+ * Shape of a hand reduced to the few features that decide its type: rank multiplicities
+ * and whether it holds a flush, straight flush, royal flush or straight.
+ * The feature space is small and finite, so every possible shape has an index and
+ * custom hand types can be compiled into a table over all shapes.
+ *
+ * @param flush Whether five cards or more share a suit
+ * @param straightFlush Whether a suit holds a straight
+ * @param royalFlush Whether a suit holds the ten-to-ace straight
+ * @param straight Whether the ranks hold a straight
+ * @param quads Number of ranks held four times (0 to 2)
+ * @param trips Number of ranks held exactly three times (0 to 2)
+ * @param pairs Number of ranks held exactly twice (0 to 4)
+ */
+public record HandFeatures(boolean flush, boolean straightFlush, boolean royalFlush, boolean straight,
+                           int quads, int trips, int pairs) {
+    private static final int FLUSH_KINDS = 4;
+    private static final int QUADS = 3;
+    private static final int TRIPS = 3;
+    private static final int PAIRS = 5;
+
+    /**
+     * Number of distinct feature indexes.
+     */
+    public static final int COUNT = FLUSH_KINDS * 2 * QUADS * TRIPS * PAIRS;
+
+    /**
+     * Computes the index of a shape.
+     *
+     * @param flushType The best flush-like type of the hand (FLUSH, STRAIGHT_FLUSH, ROYAL_FLUSH), or null
+     * @param straight Whether the ranks hold a straight
+     * @param quads Number of ranks held four times
+     * @param trips Number of ranks held exactly three times
+     * @param pairs Number of ranks held exactly twice
+     * @return The feature index, between 0 and {@link #COUNT} - 1
+     */
+    public static int indexOf(HandType flushType, boolean straight, int quads, int trips, int pairs) {
+        int flushKind = flushType == null ? 0 : switch (flushType) {
+            case ROYAL_FLUSH -> 3;
+            case STRAIGHT_FLUSH -> 2;
+            default -> 1;
+        };
+        return (((flushKind * 2 + (straight ? 1 : 0)) * QUADS + Math.min(quads, QUADS - 1)) * TRIPS
+                + Math.min(trips, TRIPS - 1)) * PAIRS + Math.min(pairs, PAIRS - 1);
+    }
+
+    /**
+     * Rebuilds the features of an index.
+     *
+     * @param index A feature index
+     * @return The features it encodes
+     */
+    public static HandFeatures fromIndex(int index) {
+        int pairs = index % PAIRS;
+        index /= PAIRS;
+        int trips = index % TRIPS;
+        index /= TRIPS;
+        int quads = index % QUADS;
+        index /= QUADS;
+        boolean straight = index % 2 == 1;
+        int flushKind = index / 2;
+        return new HandFeatures(flushKind >= 1, flushKind >= 2, flushKind == 3, straight || flushKind >= 2, quads, trips, pairs);
+    }
+
+    /**
+     * @return The built-in hand type of this shape
+     */
+    public HandType builtInType() {
+        if (royalFlush) {
+            return HandType.ROYAL_FLUSH;
+        }
+        if (straightFlush) {
+            return HandType.STRAIGHT_FLUSH;
+        }
+        HandType patternType = LookupHandEvaluator.patternTypeOf(quads > 0, trips, pairs);
+        if (patternType.ordinal() > HandType.FLUSH.ordinal()) {
+            return patternType;
+        }
+        if (flush) {
+            return HandType.FLUSH;
+        }
+        return straight ? HandType.STRAIGHT : patternType;
+    }
+}
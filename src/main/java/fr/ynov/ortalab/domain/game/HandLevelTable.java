@@ -0,0 +1,44 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+
+/**
+ * Precomputed chips and mult gained by each hand type at each level.
+ * Levels start at 1, which adds nothing; the curves are flattened into primitive arrays
+ * indexed by hand type ordinal and level, so a lookup is a single array read.
+ */
+public final class HandLevelTable {
+    private static final int LEVELS = GameConfig.MAX_HAND_LEVEL + 1;
+    private static final int[] CHIPS = new int[HandType.values().length * LEVELS];
+    private static final int[] MULT = new int[HandType.values().length * LEVELS];
+
+    static {
+        for (HandType handType : HandType.values()) {
+            for (int level = 1; level < LEVELS; level++) {
+                CHIPS[handType.ordinal() * LEVELS + level] = (level - 1) * handType.getChipsPerLevel();
+                MULT[handType.ordinal() * LEVELS + level] = (level - 1) * handType.getMultPerLevel();
+            }
+        }
+    }
+
+    private HandLevelTable() {
+    }
+
+    /**
+     * @param handType The hand type
+     * @param level The hand level, from 1 to {@link GameConfig#MAX_HAND_LEVEL}
+     * @return The chips added at that level
+     */
+    public static int chipsAt(HandType handType, int level) {
+        return CHIPS[handType.ordinal() * LEVELS + level];
+    }
+
+    /**
+     * @param handType The hand type
+     * @param level The hand level, from 1 to {@link GameConfig#MAX_HAND_LEVEL}
+     * @return The mult added at that level
+     */
+    public static int multAt(HandType handType, int level) {
+        return MULT[handType.ordinal() * LEVELS + level];
+    }
+}
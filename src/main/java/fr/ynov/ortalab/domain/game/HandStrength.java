@@ -0,0 +1,133 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
+
+/**
+ * Encodes the full strength of an evaluated hand into a single int, so that two hands
+ * compare with one integer comparison.
+ * The hand type ordinal sits above bit 23, then a 3-bit tier used by custom hand types
+ * ranked above it (see {@link HandTypeRegistry}), followed by up to five 4-bit rank slots
+ * (rank ordinal + 1, 0 when empty), most significant first: the ranks of the combination
+ * grouped by multiplicity (e.g. the trips then the pair of a full house), then the kickers.
+ * Straights only record their top card, the wheel (A-5) counting as a five-high straight.
+ */
+public final class HandStrength {
+    public static final int CATEGORY_SHIFT = 20;
+    public static final int TIER_BITS = 3;
+    private static final int HAND_TYPE_SHIFT = CATEGORY_SHIFT + TIER_BITS;
+    private static final int RANK_BITS = 4;
+    private static final int SLOT_COUNT = CATEGORY_SHIFT / RANK_BITS;
+    private static final int RANK_MASK = (1 << CardSet.VALUE_COUNT) - 1;
+    private static final HandType[] HAND_TYPES = HandType.values();
+
+    private HandStrength() {
+    }
+
+    /**
+     * Computes the strength of an evaluated hand.
+     *
+     * @param handType The hand type found
+     * @param usedMask The cards used by the hand, kickers included
+     * @param coreMask The cards forming the combination, kickers excluded
+     * @return The strength score; a higher score is a stronger hand
+     */
+    public static int of(HandType handType, long usedMask, long coreMask) {
+        int strength = handType.ordinal() << HAND_TYPE_SHIFT;
+
+        int first = rankRow(coreMask, 0);
+        int second = rankRow(coreMask, 1);
+        int third = rankRow(coreMask, 2);
+        int fourth = rankRow(coreMask, 3);
+        int ranks = first | second | third | fourth;
+
+        if (handType == HandType.STRAIGHT || handType == HandType.STRAIGHT_FLUSH || handType == HandType.ROYAL_FLUSH) {
+            return strength | (HandUtils.findStraightTop(ranks) + 1) << (CATEGORY_SHIFT - RANK_BITS);
+        }
+        return strength | slots(usedMask, coreMask, first, second, third, fourth);
+    }
+
+    /**
+     * Computes the strength of a hand forming a custom hand type.
+     * Every card counts in the combination, grouped by multiplicity.
+     *
+     * @param customType The custom hand type found
+     * @param cards The cards forming the hand
+     * @return The strength score, above every hand of the type it outranks
+     */
+    public static int of(CustomHandType customType, long cards) {
+        int strength = (customType.rankedAbove().ordinal() << TIER_BITS | customType.tier()) << CATEGORY_SHIFT;
+        return strength | slots(cards, cards, rankRow(cards, 0), rankRow(cards, 1), rankRow(cards, 2), rankRow(cards, 3));
+    }
+
+    /**
+     * Packs the combination ranks grouped by multiplicity, then the kickers, into the rank slots.
+     */
+    private static int slots(long usedMask, long coreMask, int first, int second, int third, int fourth) {
+        int ranks = first | second | third | fourth;
+
+        int twoOrMore = (first & second) | (first & third) | (first & fourth)
+                | (second & third) | (second & fourth) | (third & fourth);
+        int threeOrMore = (first & second & third) | (first & second & fourth)
+                | (first & third & fourth) | (second & third & fourth);
+        int quads = first & second & third & fourth;
+
+        // Combination ranks, one slot per distinct rank: stacking the groups in one word,
+        // largest group highest, lets a single descending bit scan emit them in order
+        long ordered = (long) quads << (3 * CardSet.VALUE_COUNT)
+                | (long) (threeOrMore & ~quads) << (2 * CardSet.VALUE_COUNT)
+                | (long) (twoOrMore & ~threeOrMore) << CardSet.VALUE_COUNT
+                | (ranks & ~twoOrMore);
+        int slots = 0;
+        int slot = 0;
+        while (ordered != 0 && slot < SLOT_COUNT) {
+            long highest = Long.highestOneBit(ordered);
+            int rank = Long.numberOfTrailingZeros(highest) % CardSet.VALUE_COUNT;
+            slots |= (rank + 1) << (CATEGORY_SHIFT - RANK_BITS * ++slot);
+            ordered ^= highest;
+        }
+
+        // Kickers, one slot per card, highest first
+        long kickers = usedMask & ~coreMask;
+        for (int rank = CardSet.VALUE_COUNT - 1; rank >= 0 && slot < SLOT_COUNT; rank--) {
+            int count = Long.bitCount(kickers & CardSet.rankMask(rank));
+            for (int i = 0; i < count && slot < SLOT_COUNT; i++) {
+                slots |= (rank + 1) << (CATEGORY_SHIFT - RANK_BITS * ++slot);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * @param handType A built-in hand type
+     * @return The strength bits of the hand type, to combine with {@link #slot(int, int)}
+     */
+    static int category(HandType handType) {
+        return handType.ordinal() << HAND_TYPE_SHIFT;
+    }
+
+    /**
+     * Places a rank into a rank slot, for evaluators that build strengths without card masks.
+     *
+     * @param position The slot, from 1 (most significant) to 5
+     * @param rank The rank ordinal to store
+     * @return The strength bits of the slot
+     */
+    static int slot(int position, int rank) {
+        return (rank + 1) << (CATEGORY_SHIFT - RANK_BITS * position);
+    }
+
+    /**
+     * Extracts the hand type from a strength score.
+     *
+     * @param strength A score returned by {@link #of(HandType, long, long)}
+     * @return The hand type it encodes, or the built-in type outranked by a custom hand type
+     */
+    public static HandType handTypeOf(int strength) {
+        return HAND_TYPES[strength >>> HAND_TYPE_SHIFT];
+    }
+
+    private static int rankRow(long cards, int suit) {
+        return (int) (cards >>> (suit * CardSet.VALUE_COUNT)) & RANK_MASK;
+    }
+}
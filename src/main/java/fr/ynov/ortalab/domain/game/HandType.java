@@ -2,32 +2,39 @@ package main.java.fr.ynov.ortalab.domain.game;
 
 /**
  * Represents the different types of poker hands, ordered from lowest to highest value.
- * Each hand type has a name and associated base point value for scoring.
+ * Each hand type has a name and associated base point value for scoring,
+ * plus the chips and mult gained per level (see {@link HandLevelTable}).
  */
 public enum HandType {
-    HIGH_CARD("High Card", 10),
-    PAIR("Pair", 20),
-    TWO_PAIR("Two Pair", 40),
-    THREE_OF_A_KIND("Three of a Kind", 80),
-    STRAIGHT("Straight", 100),
-    FLUSH("Flush", 125),
-    FULL_HOUSE("Full House", 175),
-    FOUR_OF_A_KIND("Four of a Kind", 400),
-    STRAIGHT_FLUSH("Straight Flush", 600),
-    ROYAL_FLUSH("Royal Flush", 2000);
+    HIGH_CARD("High Card", 10, 5, 1),
+    PAIR("Pair", 20, 10, 1),
+    TWO_PAIR("Two Pair", 40, 20, 1),
+    THREE_OF_A_KIND("Three of a Kind", 80, 30, 2),
+    STRAIGHT("Straight", 100, 40, 3),
+    FLUSH("Flush", 125, 40, 2),
+    FULL_HOUSE("Full House", 175, 50, 2),
+    FOUR_OF_A_KIND("Four of a Kind", 400, 100, 3),
+    STRAIGHT_FLUSH("Straight Flush", 600, 150, 4),
+    ROYAL_FLUSH("Royal Flush", 2000, 300, 4);
 
     private final String name;
     private final int basePoints;
+    private final int chipsPerLevel;
+    private final int multPerLevel;
 
     /**
-     * Creates a new hand type with the specified name and base point value.
+     * Creates a new hand type with the specified name, base point value and level curve.
      *
      * @param name The display name of the hand type
      * @param basePoints The base points awarded for this hand type
+     * @param chipsPerLevel The chips added by each level above the first
+     * @param multPerLevel The mult added by each level above the first
      */
-    HandType(String name, int basePoints) {
+    HandType(String name, int basePoints, int chipsPerLevel, int multPerLevel) {
         this.name = name;
         this.basePoints = basePoints;
+        this.chipsPerLevel = chipsPerLevel;
+        this.multPerLevel = multPerLevel;
     }
 
     /**
@@ -48,6 +55,14 @@ public enum HandType {
         return basePoints;
     }
 
+    public int getChipsPerLevel() {
+        return chipsPerLevel;
+    }
+
+    public int getMultPerLevel() {
+        return multPerLevel;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -0,0 +1,115 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Registry of the custom hand types added on top of the ten built-in ones.
+ * Each registration recompiles a table mapping every {@link HandFeatures} index to the
+ * highest custom type that matches it and outranks the built-in type of that shape,
+ * so classifying a hand costs one table read however many types are registered.
+ * A custom type is formed by at most {@link GameConfig#ACTIVE_HAND_SIZE}
+ * standard cards: shapes needing more cards, or a joker, never match.
+ * Registering clears the shared {@link EvaluationCache}; evaluators with their own cache
+ * should be given a new one.
+ */
+public final class HandTypeRegistry {
+    /**
+     * Number of custom types that can be ranked above the same built-in type.
+     */
+    public static final int MAX_TIERS = (1 << HandStrength.TIER_BITS) - 1;
+
+    private static final List<CustomHandType> TYPES = new ArrayList<>();
+    private static volatile CustomHandType[] table;  // Null while no custom type is registered
+
+    private HandTypeRegistry() {
+    }
+
+    /**
+     * Registers a custom hand type ranked above a built-in type and above the custom types
+     * already registered there.
+     *
+     * @param name The display name of the hand type
+     * @param basePoints The base points awarded for this hand type
+     * @param rankedAbove The built-in hand type the new type directly outranks
+     * @param matcher Tells whether a hand shape forms the new type
+     * @return The registered type
+     * @throws IllegalStateException if too many types are already ranked above rankedAbove
+     */
+    public static synchronized CustomHandType register(String name, int basePoints, HandType rankedAbove,
+                                                       Predicate<HandFeatures> matcher) {
+        int tier = 1;
+        for (CustomHandType type : TYPES) {
+            if (type.rankedAbove() == rankedAbove) {
+                tier++;
+            }
+        }
+        if (tier > MAX_TIERS) {
+            throw new IllegalStateException("No more than " + MAX_TIERS + " hand types can rank above " + rankedAbove);
+        }
+
+        CustomHandType type = new CustomHandType(name, basePoints, rankedAbove, tier, matcher);
+        TYPES.add(type);
+        compile();
+        return type;
+    }
+
+    /**
+     * Removes every custom hand type.
+     */
+    public static synchronized void clear() {
+        TYPES.clear();
+        compile();
+    }
+
+    /**
+     * @return The registered custom types, in registration order
+     */
+    public static synchronized List<CustomHandType> getTypes() {
+        return List.copyOf(TYPES);
+    }
+
+    /**
+     * @return true if no custom type is registered
+     */
+    public static boolean isEmpty() {
+        return table == null;
+    }
+
+    /**
+     * Finds the custom type formed by a hand shape.
+     *
+     * @param featureIndex The index of the hand shape (see {@link HandFeatures#indexOf})
+     * @return The custom type, or null if the built-in type stands
+     */
+    public static CustomHandType classify(int featureIndex) {
+        CustomHandType[] current = table;
+        return current == null ? null : current[featureIndex];
+    }
+
+    private static void compile() {
+        CustomHandType[] compiled = null;
+        if (!TYPES.isEmpty()) {
+            compiled = new CustomHandType[HandFeatures.COUNT];
+            for (int index = 0; index < HandFeatures.COUNT; index++) {
+                HandFeatures features = HandFeatures.fromIndex(index);
+                HandType builtIn = features.builtInType();
+                for (CustomHandType type : TYPES) {
+                    if (type.outranks(builtIn) && type.matches(features)
+                            && (compiled[index] == null || rankOf(type) > rankOf(compiled[index]))) {
+                        compiled[index] = type;
+                    }
+                }
+            }
+        }
+        table = compiled;
+        EvaluationCache.shared().clear();
+    }
+
+    private static int rankOf(CustomHandType type) {
+        return type.rankedAbove().ordinal() << HandStrength.TIER_BITS | type.tier();
+    }
+}
@@ -1,5 +1,7 @@
 package main.java.fr.ynov.ortalab.domain.game;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -15,6 +17,7 @@ public class Item {
     private final int sellValue;
     private final Consumer<Player> applyEffect;
     private final Consumer<Player> removeEffect;
+    private final List<ScoringEffect> scoringEffects;
 
     /**
      * Defines item rarity levels with associated drop rates.
@@ -51,6 +54,7 @@ public class Item {
         this.sellValue = builder.sellValue;
         this.applyEffect = builder.applyEffect;
         this.removeEffect = builder.removeEffect;
+        this.scoringEffects = List.copyOf(builder.scoringEffects);
     }
 
     /**
@@ -79,6 +83,13 @@ public class Item {
 
     // ==================== GETTERS ====================
 
+    /**
+     * @return The contributions of this item to the scoring pipeline
+     */
+    public List<ScoringEffect> getScoringEffects() {
+        return scoringEffects;
+    }
+
     public String getName() {
         return name;
     }
@@ -116,6 +127,7 @@ public class Item {
         private int sellValue;
         private Consumer<Player> applyEffect;
         private Consumer<Player> removeEffect;
+        private final List<ScoringEffect> scoringEffects = new ArrayList<>();
 
         /**
          * Create a new builder with the required item name.
@@ -164,6 +176,17 @@ public class Item {
             return this;
         }
 
+        /**
+         * Register a contribution to the scoring pipeline, active while the item is owned.
+         *
+         * @param effect The stage contribution of this item
+         * @return This builder for method chaining
+         */
+        public Builder scoringEffect(ScoringEffect effect) {
+            this.scoringEffects.add(effect);
+            return this;
+        }
+
         /**
          * Build and return the final Item instance.
          *
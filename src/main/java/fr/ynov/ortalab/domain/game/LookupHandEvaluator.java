@@ -0,0 +1,300 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.card.CardValue;
+import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
+
+/**
+ * Table-driven hand evaluator working directly on card bitmasks.
+ * Produces the same hand type, core cards and used cards as the HandChecker chain,
+ * but replaces the per-checker stream grouping with a few bitwise operations and
+ * reads into precomputed tables indexed by 13-bit rank patterns.
+ * When several cards of the same value are interchangeable, the lowest suit wins.
+ * Instances hold the result of the last evaluation and can be reused freely,
+ * but are not thread-safe.
+ */
+public final class LookupHandEvaluator {
+    private static final int RANK_COUNT = CardSet.VALUE_COUNT;
+    private static final int RANK_PATTERNS = 1 << RANK_COUNT;
+    private static final int RANK_MASK = RANK_PATTERNS - 1;
+    private static final int ACE = CardValue.ACE.ordinal();
+    private static final int NONE = -1;
+
+    private static final HandType[] HAND_TYPES = HandType.values();
+
+    /**
+     * Rank of the highest straight's top card for every rank pattern, or NONE.
+     */
+    private static final byte[] STRAIGHT_TOP = new byte[RANK_PATTERNS];
+
+    /**
+     * Hand type ordinal reached by the cards of a single suit (flush, straight flush
+     * or royal flush), or NONE when the suit holds fewer than five cards.
+     */
+    private static final byte[] FLUSH_TYPE = new byte[RANK_PATTERNS];
+
+    /**
+     * Hand type ordinal for a multiplicity pattern, indexed by
+     * (has quads) << 4 | min(trips, 3) << 2 | min(pairs, 3).
+     */
+    private static final byte[] PATTERN_TYPE = new byte[32];
+
+    static {
+        for (int ranks = 0; ranks < RANK_PATTERNS; ranks++) {
+            STRAIGHT_TOP[ranks] = (byte) HandUtils.findStraightTop(ranks);
+            FLUSH_TYPE[ranks] = (byte) computeFlushType(ranks);
+        }
+        for (int pattern = 0; pattern < PATTERN_TYPE.length; pattern++) {
+            PATTERN_TYPE[pattern] = (byte) computePatternType(pattern >> 4, (pattern >> 2) & 3, pattern & 3).ordinal();
+        }
+    }
+
+    private HandType handType = HandType.HIGH_CARD;
+    private long usedMask;
+    private long coreMask;
+
+    /**
+     * Evaluates a set of cards given as a bitmask and stores the result in this instance.
+     * With more than five cards, the result is the strongest five-card combination
+     * and the used cards are exactly those five cards.
+     *
+     * @param cards The bitmask of the cards to evaluate (see {@link CardSet})
+     * @return The hand type found
+     */
+    public HandType evaluate(long cards) {
+        int clubs = suitRanks(cards, 0);
+        int hearts = suitRanks(cards, 1);
+        int spades = suitRanks(cards, 2);
+        int diamonds = suitRanks(cards, 3);
+
+        int ranks = clubs | hearts | spades | diamonds;
+        int twoOrMore = (clubs & hearts) | (clubs & spades) | (clubs & diamonds)
+                | (hearts & spades) | (hearts & diamonds) | (spades & diamonds);
+        int threeOrMore = (clubs & hearts & spades) | (clubs & hearts & diamonds)
+                | (clubs & spades & diamonds) | (hearts & spades & diamonds);
+        int quads = clubs & hearts & spades & diamonds;
+        int trips = threeOrMore & ~quads;
+        int pairs = twoOrMore & ~threeOrMore;
+
+        // Straight flushes and royal flushes outrank every multiplicity pattern
+        int flushSuit = NONE;
+        int flushType = NONE;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            int type = FLUSH_TYPE[suitRanks(cards, suit)];
+            if (type > flushType) {
+                flushType = type;
+                flushSuit = suit;
+            }
+        }
+        if (flushType >= HandType.STRAIGHT_FLUSH.ordinal()) {
+            int suitRanks = suitRanks(cards, flushSuit);
+            return store(HAND_TYPES[flushType], straightCards(cards & CardSet.suitMask(flushSuit), STRAIGHT_TOP[suitRanks]), 0L);
+        }
+
+        int pattern = (quads != 0 ? 16 : 0)
+                | Math.min(Integer.bitCount(trips), 3) << 2
+                | Math.min(Integer.bitCount(pairs), 3);
+        HandType patternType = HAND_TYPES[PATTERN_TYPE[pattern]];
+
+        switch (patternType) {
+            case FOUR_OF_A_KIND -> {
+                long core = rankCards(cards, HandUtils.highestRank(quads));
+                return store(patternType, core, topCards(cards & ~core, 1));
+            }
+            case FULL_HOUSE -> {
+                int threeRank = HandUtils.highestRank(trips);
+                int remainingTrips = trips & ~(1 << threeRank);
+                // The pair comes from the highest remaining rank held at least twice
+                int pairRank = HandUtils.highestRank(remainingTrips | pairs);
+                long core = rankCards(cards, threeRank) | HandUtils.lowestCards(rankCards(cards, pairRank), 2);
+                return store(patternType, core, 0L);
+            }
+            default -> {
+            }
+        }
+
+        if (flushType == HandType.FLUSH.ordinal()) {
+            return store(HandType.FLUSH, topCards(cards & CardSet.suitMask(flushSuit), 5), 0L);
+        }
+
+        int straightTop = STRAIGHT_TOP[ranks];
+        if (straightTop != NONE) {
+            return store(HandType.STRAIGHT, straightCards(cards, straightTop), 0L);
+        }
+
+        switch (patternType) {
+            case THREE_OF_A_KIND -> {
+                long core = rankCards(cards, HandUtils.highestRank(trips));
+                return store(patternType, core, topCards(cards & ~core, 2));
+            }
+            case TWO_PAIR -> {
+                int firstRank = HandUtils.highestRank(pairs);
+                int secondRank = HandUtils.highestRank(pairs & ~(1 << firstRank));
+                long core = rankCards(cards, firstRank) | rankCards(cards, secondRank);
+                return store(patternType, core, topCards(cards & ~core, 1));
+            }
+            case PAIR -> {
+                long core = rankCards(cards, HandUtils.highestRank(pairs));
+                return store(patternType, core, topCards(cards & ~core, 3));
+            }
+            default -> {
+                // Only the highest card is core, the four next ones are kickers
+                long core = topCards(cards, 1);
+                return store(HandType.HIGH_CARD, core, topCards(cards & ~core, 4));
+            }
+        }
+    }
+
+    /**
+     * @return The hand type found by the last evaluation
+     */
+    public HandType getHandType() {
+        return handType;
+    }
+
+    /**
+     * @return The bitmask of every card used by the last hand, kickers included
+     */
+    public long getUsedMask() {
+        return usedMask;
+    }
+
+    /**
+     * @return The bitmask of the cards forming the last combination, kickers excluded
+     */
+    public long getCoreMask() {
+        return coreMask;
+    }
+
+    // ==================== SHARED TABLES ====================
+
+    /**
+     * Reads the hand type reached by the ranks held in a single suit.
+     *
+     * @param suitRanks 13-bit mask of the ranks held in the suit
+     * @return FLUSH, STRAIGHT_FLUSH or ROYAL_FLUSH, or null with fewer than five cards
+     */
+    static HandType flushTypeOf(int suitRanks) {
+        int type = FLUSH_TYPE[suitRanks];
+        return type == NONE ? null : HAND_TYPES[type];
+    }
+
+    /**
+     * @param ranks 13-bit mask of the ranks held
+     * @return true if the ranks contain a straight
+     */
+    static boolean hasStraight(int ranks) {
+        return STRAIGHT_TOP[ranks] != NONE;
+    }
+
+    /**
+     * Reads the hand type given by rank multiplicities alone.
+     *
+     * @param hasQuads Whether a rank is held four times
+     * @param trips Number of ranks held exactly three times
+     * @param pairs Number of ranks held exactly twice
+     * @return The hand type of the pattern, ignoring flushes and straights
+     */
+    static HandType patternTypeOf(boolean hasQuads, int trips, int pairs) {
+        return HAND_TYPES[PATTERN_TYPE[(hasQuads ? 16 : 0) | Math.min(trips, 3) << 2 | Math.min(pairs, 3)]];
+    }
+
+    /**
+     * Computes the shape of a set of cards, as matched by custom hand types.
+     *
+     * @param cards The bitmask of the cards (see {@link CardSet})
+     * @return The feature index of the cards (see {@link HandFeatures#indexOf})
+     */
+    static int featureIndexOf(long cards) {
+        int clubs = suitRanks(cards, 0);
+        int hearts = suitRanks(cards, 1);
+        int spades = suitRanks(cards, 2);
+        int diamonds = suitRanks(cards, 3);
+
+        int twoOrMore = (clubs & hearts) | (clubs & spades) | (clubs & diamonds)
+                | (hearts & spades) | (hearts & diamonds) | (spades & diamonds);
+        int threeOrMore = (clubs & hearts & spades) | (clubs & hearts & diamonds)
+                | (clubs & spades & diamonds) | (hearts & spades & diamonds);
+        int quads = clubs & hearts & spades & diamonds;
+
+        int flushType = Math.max(Math.max(FLUSH_TYPE[clubs], FLUSH_TYPE[hearts]),
+                Math.max(FLUSH_TYPE[spades], FLUSH_TYPE[diamonds]));
+        return HandFeatures.indexOf(flushType == NONE ? null : HAND_TYPES[flushType],
+                STRAIGHT_TOP[clubs | hearts | spades | diamonds] != NONE,
+                Integer.bitCount(quads), Integer.bitCount(threeOrMore & ~quads), Integer.bitCount(twoOrMore & ~threeOrMore));
+    }
+
+    private HandType store(HandType type, long core, long kickers) {
+        this.handType = type;
+        this.coreMask = core;
+        this.usedMask = core | kickers;
+        return type;
+    }
+
+    // ==================== MASK HELPERS ====================
+
+    private static int suitRanks(long cards, int suit) {
+        return (int) (cards >>> (suit * RANK_COUNT)) & RANK_MASK;
+    }
+
+    private static long rankCards(long cards, int rank) {
+        return cards & CardSet.rankMask(rank);
+    }
+
+    /**
+     * Picks the highest cards by value, preferring the lowest suit among equal values.
+     */
+    private static long topCards(long cards, int count) {
+        long kept = 0L;
+        for (int rank = ACE; rank >= 0 && count > 0; rank--) {
+            long sameRank = HandUtils.lowestCards(rankCards(cards, rank), count);
+            kept |= sameRank;
+            count -= Long.bitCount(sameRank);
+        }
+        return kept;
+    }
+
+    /**
+     * Picks one card (lowest suit) for each rank of the straight ending at the given top rank.
+     */
+    private static long straightCards(long cards, int top) {
+        long straight = 0L;
+        for (int offset = 0; offset < 5; offset++) {
+            int rank = top - offset;
+            if (rank < 0) {
+                rank = ACE;  // the wheel (A-2-3-4-5) uses the ace as its low card
+            }
+            straight |= HandUtils.lowestCards(rankCards(cards, rank), 1);
+        }
+        return straight;
+    }
+
+    // ==================== TABLE CONSTRUCTION ====================
+
+    private static int computeFlushType(int ranks) {
+        if (Integer.bitCount(ranks) < 5) {
+            return NONE;
+        }
+        int top = HandUtils.findStraightTop(ranks);
+        if (top == ACE) {
+            return HandType.ROYAL_FLUSH.ordinal();
+        }
+        return top != NONE ? HandType.STRAIGHT_FLUSH.ordinal() : HandType.FLUSH.ordinal();
+    }
+
+    private static HandType computePatternType(int quads, int trips, int pairs) {
+        if (quads > 0) {
+            return HandType.FOUR_OF_A_KIND;
+        }
+        if (trips >= 2 || (trips == 1 && pairs >= 1)) {
+            return HandType.FULL_HOUSE;
+        }
+        if (trips == 1) {
+            return HandType.THREE_OF_A_KIND;
+        }
+        if (pairs >= 2) {
+            return HandType.TWO_PAIR;
+        }
+        return pairs == 1 ? HandType.PAIR : HandType.HIGH_CARD;
+    }
+}
@@ -0,0 +1,156 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranks every legal play of a hand by the damage it would deal.
+ * Each selection of 1 to {@link GameConfig#ACTIVE_HAND_SIZE} cards is enumerated as a
+ * sub-mask of the hand mask, then all of them are scored in one batch against the
+ * player's compiled {@link ScoringTable} (218 selections for an 8-card hand).
+ * Buffers are reused between calls, so an advisor is not thread-safe;
+ * use one per thread, e.g. one per automated playtester.
+ */
+public class PlayAdvisor {
+    private final long[] selections = new long[1 << GameConfig.MAX_HAND_SIZE];
+    private final int[] damages = new int[selections.length];
+    private final HandEvaluator evaluator = new HandEvaluator(HandEvaluator.Strategy.LOOKUP_TABLE, null);
+
+    /**
+     * A play and its outcome.
+     *
+     * @param cards The cards to select
+     * @param damage The damage dealt with all player bonuses
+     * @param killsEnemy Whether the damage defeats the current enemy
+     */
+    public record Suggestion(CardSet cards, int damage, boolean killsEnemy) {
+    }
+
+    /**
+     * Finds the best plays of the player's current hand.
+     *
+     * @param player The player, whose hand and bonuses are read
+     * @param enemy The enemy to attack, or null to ignore kills
+     * @param limit Maximum number of plays to return
+     * @return The best plays, highest damage first
+     * @throws IllegalArgumentException if the hand holds more than the maximum hand size
+     */
+    public List<Suggestion> advise(Player player, Enemy enemy, int limit) {
+        return advise(CardSet.fromCards(player.getCurrentHand()), player.getScoringTable(), enemy, limit);
+    }
+
+    /**
+     * Finds the best plays of a hand.
+     * Among plays dealing the same damage, the one using fewer cards comes first.
+     *
+     * @param hand The cards to choose from
+     * @param scoringTable The bonuses to score with
+     * @param enemy The enemy to attack, or null to ignore kills
+     * @param limit Maximum number of plays to return
+     * @return The best plays, highest damage first
+     * @throws IllegalArgumentException if the hand holds more than the maximum hand size
+     */
+    public List<Suggestion> advise(CardSet hand, ScoringTable scoringTable, Enemy enemy, int limit) {
+        checkHandSize(hand.size());
+        int count = enumerateSelections(hand.mask());
+        PointsCalculator.calculateScores(scoringTable, selections, damages, false);
+
+        int[] best = topIndexes(count, Math.min(limit, count));
+        int enemyHealth = enemy != null ? enemy.getHealthPoints() : -1;
+        List<Suggestion> suggestions = new ArrayList<>(best.length);
+        for (int index : best) {
+            suggestions.add(new Suggestion(new CardSet(selections[index]), damages[index],
+                    enemyHealth >= 0 && damages[index] >= enemyHealth));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Finds the best play of a list of cards.
+     *
+     * @param hand The cards to choose from
+     * @param player The player whose bonuses apply
+     * @param enemy The enemy to attack, or null to ignore kills
+     * @return The best play, or null if the hand is empty
+     */
+    public Suggestion adviseBest(List<Card> hand, Player player, Enemy enemy) {
+        List<Suggestion> best = advise(CardSet.fromCards(hand), player.getScoringTable(), enemy, 1);
+        return best.isEmpty() ? null : best.getFirst();
+    }
+
+    /**
+     * Computes the damage of the best play of a hand, the one {@link #advise(CardSet, ScoringTable, Enemy, int)}
+     * would suggest first, without building any suggestion, such as to score keeping a hand.
+     *
+     * @param hand The card mask of the cards to choose from
+     * @param scoringTable The bonuses to score with
+     * @return The highest damage of a legal play, 0 for an empty hand
+     * @throws IllegalArgumentException if the hand holds more than the maximum hand size
+     */
+    public int bestDamage(long hand, ScoringTable scoringTable) {
+        checkHandSize(Long.bitCount(hand));
+        int best = 0;
+        for (long subset = hand; subset != 0; subset = (subset - 1) & hand) {
+            if (Long.bitCount(subset) <= GameConfig.ACTIVE_HAND_SIZE) {
+                evaluator.evaluate(subset);
+                best = Math.max(best, scoringTable.score(evaluator, subset));
+            }
+        }
+        return best;
+    }
+
+    private static void checkHandSize(int size) {
+        if (size > GameConfig.MAX_HAND_SIZE) {
+            throw new IllegalArgumentException("A hand holds at most " + GameConfig.MAX_HAND_SIZE + " cards");
+        }
+    }
+
+    /**
+     * Lists every non-empty sub-mask of the hand small enough to be played.
+     * The buffer is cleared past the last selection, as empty selections score 0.
+     */
+    private int enumerateSelections(long hand) {
+        int count = 0;
+        for (long subset = hand; subset != 0; subset = (subset - 1) & hand) {
+            if (Long.bitCount(subset) <= GameConfig.ACTIVE_HAND_SIZE) {
+                selections[count++] = subset;
+            }
+        }
+        for (int i = count; i < selections.length; i++) {
+            selections[i] = 0L;
+        }
+        return count;
+    }
+
+    /**
+     * Keeps the indexes of the highest damages by insertion, cheaper than sorting for a small limit.
+     */
+    private int[] topIndexes(int count, int limit) {
+        int[] best = new int[Math.max(0, limit)];
+        int size = 0;
+        for (int index = 0; index < count && best.length > 0; index++) {
+            if (size == best.length && !isBetter(index, best[size - 1])) {
+                continue;
+            }
+            int position = Math.min(size, best.length - 1);
+            while (position > 0 && isBetter(index, best[position - 1])) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = index;
+            size = Math.min(size + 1, best.length);
+        }
+        return best;
+    }
+
+    private boolean isBetter(int index, int other) {
+        if (damages[index] != damages[other]) {
+            return damages[index] > damages[other];
+        }
+        return Long.bitCount(selections[index]) < Long.bitCount(selections[other]);
+    }
+}
@@ -0,0 +1,130 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.utils.CombinationUtils;
+
+import java.util.Arrays;
+
+/**
+ * Damage of every play of 1 to 5 cards taken from a hand and the cards left in the deck, each
+ * scored once, so that the best play of every redraw after a discard is found with no hand evaluation.
+ * It gives the same damage as {@link PlayAdvisor#bestDamage(long, ScoringTable)}, whatever the bonuses.
+ * <p>
+ * The cards are numbered with those of the hand first, then those of the deck, each in ascending
+ * order, and plays are indexed by size, then by the colexicographic rank of their numbers
+ * (see {@link CombinationUtils}). As kept cards number below drawn cards, the rank of a play
+ * is the rank of its kept cards plus a part depending only on its drawn cards and how many kept
+ * cards come with them.
+ */
+final class PlayDamageTable {
+    private static final int MAX_PLAY = GameConfig.ACTIVE_HAND_SIZE;
+
+    private final long hand;
+    private final int handSize;
+    private final int deckSize;
+    private final int[][] damages;  // By play size, then by rank
+
+    /**
+     * Scores every play of the hand and deck cards, across all cores.
+     *
+     * @param scoringTable The bonuses to score with
+     * @param hand The cards of the hand
+     * @param remaining The cards left in the deck, none of them in the hand
+     */
+    PlayDamageTable(ScoringTable scoringTable, long hand, long remaining) {
+        this.hand = hand;
+        this.handSize = Long.bitCount(hand);
+        this.deckSize = Long.bitCount(remaining);
+        long[] cards = new long[handSize + deckSize];  // By number
+        int number = 0;
+        for (long rest = hand; rest != 0; rest &= rest - 1) {
+            cards[number++] = rest & -rest;
+        }
+        for (long rest = remaining; rest != 0; rest &= rest - 1) {
+            cards[number++] = rest & -rest;
+        }
+
+        this.damages = new int[MAX_PLAY + 1][];
+        for (int size = 1; size <= MAX_PLAY; size++) {
+            long[] plays = new long[(int) CombinationUtils.binomial(cards.length, size)];
+            long numbers = (1L << size) - 1;
+            for (int rank = 0; rank < plays.length; rank++, numbers = CombinationUtils.next(numbers)) {
+                for (long rest = numbers; rest != 0; rest &= rest - 1) {
+                    plays[rank] |= cards[Long.numberOfTrailingZeros(rest)];
+                }
+            }
+            damages[size] = new int[plays.length];
+            PointsCalculator.calculateScores(scoringTable, plays, damages[size], true);
+        }
+    }
+
+    /**
+     * Finds the best play of the kept cards with each set of drawn cards, up to 5 of them.
+     * The best play of a redraw is the best over the sets of its drawn cards, the empty one included.
+     *
+     * @param kept The cards kept after a discard, part of the hand
+     * @param drawCount The number of cards drawn
+     * @return By number of drawn cards, up to 5 and drawCount, then by the colexicographic rank of
+     *         their positions among the deck cards: the highest damage of a play holding these drawn
+     *         cards and kept cards only, 0 if there is none
+     */
+    int[][] bestPlays(long kept, int drawCount) {
+        // Ranks of the kept card sets, by size
+        int keptNumbers = 0;
+        int number = 0;
+        for (long rest = hand; rest != 0; rest &= rest - 1, number++) {
+            if ((kept & rest & -rest) != 0) {
+                keptNumbers |= 1 << number;
+            }
+        }
+        int[][] keptRanks = new int[MAX_PLAY + 1][];
+        for (int size = 0; size <= MAX_PLAY; size++) {
+            keptRanks[size] = new int[(int) CombinationUtils.binomial(Integer.bitCount(keptNumbers), size)];
+        }
+        int[] found = new int[MAX_PLAY + 1];
+        for (int subset = keptNumbers; ; subset = (subset - 1) & keptNumbers) {
+            int size = Integer.bitCount(subset);
+            if (size <= MAX_PLAY) {
+                keptRanks[size][found[size]++] = (int) CombinationUtils.rank(subset);
+            }
+            if (subset == 0) {
+                break;
+            }
+        }
+
+        // C(handSize + position, index) for the index-th lowest drawn card at a deck position
+        int[][] steps = new int[MAX_PLAY + 1][deckSize];
+        for (int index = 1; index <= MAX_PLAY; index++) {
+            for (int position = 0; position < deckSize; position++) {
+                steps[index][position] = (int) CombinationUtils.binomial(handSize + position, index);
+            }
+        }
+        int maxDrawn = Math.min(MAX_PLAY, drawCount);
+        int[][] best = new int[maxDrawn + 1][];
+        int[] offsets = new int[MAX_PLAY + 1];  // Rank part of the drawn cards, by number of kept cards
+        for (int drawn = 0; drawn <= maxDrawn; drawn++) {
+            best[drawn] = new int[(int) CombinationUtils.binomial(deckSize, drawn)];
+            long positions = (1L << drawn) - 1;
+            for (int rank = 0; rank < best[drawn].length; rank++, positions = drawn > 0 ? CombinationUtils.next(positions) : 0L) {
+                Arrays.fill(offsets, 0);
+                int index = 0;
+                for (long rest = positions; rest != 0; rest &= rest - 1) {
+                    int position = Long.numberOfTrailingZeros(rest);
+                    index++;
+                    for (int keptCount = 0; keptCount + drawn <= MAX_PLAY; keptCount++) {
+                        offsets[keptCount] += steps[keptCount + index][position];
+                    }
+                }
+                int damage = 0;
+                for (int keptCount = drawn == 0 ? 1 : 0; keptCount + drawn <= MAX_PLAY; keptCount++) {
+                    int[] plays = damages[keptCount + drawn];
+                    for (int keptRank : keptRanks[keptCount]) {
+                        damage = Math.max(damage, plays[keptRank + offsets[keptCount]]);
+                    }
+                }
+                best[drawn][rank] = damage;
+            }
+        }
+        return best;
+    }
+}
@@ -2,6 +2,8 @@ package main.java.fr.ynov.ortalab.domain.game;
 
 import main.java.fr.ynov.ortalab.config.GameConfig;
 import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardEnhancements;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
 import main.java.fr.ynov.ortalab.domain.card.CardSuit;
 import main.java.fr.ynov.ortalab.domain.exceptions.DeckException;
 import main.java.fr.ynov.ortalab.domain.exceptions.PlayerActionException;
@@ -40,6 +42,17 @@ public class Player {
     private int baseDamageReduction;
     private int lowHealthDamageReduction;
 
+    // Hand levels, indexed by hand type ordinal
+    private final int[] handLevels;
+
+    // Enhancements of the deck's cards, null when playing without a deck
+    private CardEnhancements cardEnhancements;
+
+    // Compiled scoring bonuses, rebuilt when the bonus or enhancement version changes
+    private int bonusVersion;
+    private int compiledEnhancementVersion;
+    private ScoringTable scoringTable;
+
     /**
      * Creates a new player with specified initial health.
      * Initializes all bonus maps and collections.
@@ -62,6 +75,8 @@ public class Player {
         this.battleEndHealingAmount = 0;
         this.baseDamageReduction = 0;
         this.lowHealthDamageReduction = 0;
+        this.handLevels = new int[HandType.values().length];
+        Arrays.fill(handLevels, 1);
     }
 
     // ==================== CORE COMBAT METHODS ====================
@@ -102,6 +117,16 @@ public class Player {
         return PointsCalculator.calculateScore(selectedHand, this);
     }
 
+    /**
+     * Find the strongest five-card combination in the current hand, e.g. for hints.
+     *
+     * @return Evaluator holding the best hand type, its five cards and its core cards
+     * @throws IllegalArgumentException if the hand holds fewer than 5 cards
+     */
+    public HandEvaluator findBestHand() {
+        return HandEvaluator.bestFiveOf(CardSet.fromCards(currentHand));
+    }
+
     /**
      * Apply post-battle effects such as end-of-battle healing.
      */
@@ -219,6 +244,7 @@ public class Player {
         if (inventory.size() < GameConfig.MAX_INVENTORY_SIZE) {
             inventory.add(item);
             item.applyTo(this);
+            markBonusesChanged();
         }
     }
 
@@ -231,9 +257,68 @@ public class Player {
         if (inventory.remove(item)) {
             gold += item.getSellValue();
             item.removeFrom(this);
+            markBonusesChanged();
         }
     }
 
+    /**
+     * Signal that the bonus maps were modified, so the compiled scoring table is rebuilt.
+     * Called automatically when items are added or sold; call it after editing
+     * a bonus map directly.
+     */
+    public void markBonusesChanged() {
+        bonusVersion++;
+    }
+
+    /**
+     * Get the scoring bonuses compiled into flat arrays, recompiling them if they changed.
+     *
+     * @return The up-to-date scoring table
+     */
+    public ScoringTable getScoringTable() {
+        int enhancementVersion = cardEnhancements != null ? cardEnhancements.getVersion() : 0;
+        if (scoringTable == null || scoringTable.getVersion() != bonusVersion
+                || compiledEnhancementVersion != enhancementVersion) {
+            scoringTable = ScoringTable.compile(this, bonusVersion);
+            compiledEnhancementVersion = enhancementVersion;
+        }
+        return scoringTable;
+    }
+
+    /**
+     * Link the enhancements of the deck the player draws from, so they count in scoring.
+     *
+     * @param cardEnhancements The deck's card enhancements, or null for none
+     */
+    public void setCardEnhancements(CardEnhancements cardEnhancements) {
+        this.cardEnhancements = cardEnhancements;
+        // Versions of different enhancement objects are unrelated, so the table is always recompiled
+        scoringTable = null;
+    }
+
+    public CardEnhancements getCardEnhancements() {
+        return cardEnhancements;
+    }
+
+    /**
+     * Raise the level of a hand type, increasing its chips and mult.
+     *
+     * @param handType The hand type to upgrade
+     * @return true if the level increased, false if it was already at the maximum
+     */
+    public boolean levelUpHand(HandType handType) {
+        if (handLevels[handType.ordinal()] >= GameConfig.MAX_HAND_LEVEL) {
+            return false;
+        }
+        handLevels[handType.ordinal()]++;
+        markBonusesChanged();
+        return true;
+    }
+
+    public int getHandLevel(HandType handType) {
+        return handLevels[handType.ordinal()];
+    }
+
     /**
      * Add gold to the player's wallet.
      *
@@ -297,6 +382,7 @@ public class Player {
 
     public void setRejectionBonus(int bonus) {
         this.rejectionBonus = bonus;
+        markBonusesChanged();
     }
 
     public int getBattleEndHealingAmount() {
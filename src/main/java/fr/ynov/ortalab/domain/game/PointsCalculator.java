@@ -1,19 +1,22 @@
 package main.java.fr.ynov.ortalab.domain.game;
 
+import main.java.fr.ynov.ortalab.config.GameConfig;
 import main.java.fr.ynov.ortalab.domain.card.Card;
-import main.java.fr.ynov.ortalab.domain.card.CardSuit;
-import main.java.fr.ynov.ortalab.domain.card.CardValue;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.stream.IntStream;
 
 /**
  * Calculates score points for poker hands based on various factors including
  * the hand type, card values, and player-specific bonuses.
+ * Player bonuses are read through the player's compiled {@link ScoringTable}.
  */
 public class PointsCalculator {
+    /**
+     * Number of selections scored by each parallel batch task.
+     */
+    private static final int BATCH_CHUNK_SIZE = 4096;
 
     /**
      * Calculates the total score for a set of selected cards.
@@ -27,146 +30,113 @@ public class PointsCalculator {
             return 0;
         }
 
-        HandEvaluator evaluator = new HandEvaluator(selectedCards);
-        String handTypeStr = evaluator.getHandType().toUpperCase().replace(" ", "_");
-        HandType handType = HandType.valueOf(handTypeStr);
-        Set<Card> coreCards = evaluator.getCoreCards();
-
-        int totalPoints = calculateBasePoints(evaluator);
-        totalPoints += calculateCardValuePoints(coreCards);
-
-        if (player != null) {
-            totalPoints += calculateHandTypeBonus(handType, player);
-            totalPoints += calculateSuitBonus(coreCards, player);
-            totalPoints += calculateHonorCardBonus(coreCards, player);
-            totalPoints += calculateCardCountBonus(selectedCards, player);
-            totalPoints += calculateRejectionBonus(selectedCards, coreCards, player);
-        }
-
-        return totalPoints;
+        return calculateScore(CardSet.fromCards(selectedCards), player);
     }
 
     /**
-     * Enum to categorize card values for bonus calculations.
+     * Calculates the total score for a set of selected cards given as a bitmask.
+     *
+     * @param selectedCards The cards to evaluate
+     * @param player The player who owns these cards (for bonus calculations)
+     * @return The total calculated score
      */
-    public enum CardValueType {
-        HONOR,  // J, Q, K, A
-        NUMBER  // 2-10
-        // Add more as needed
-    }
+    public static int calculateScore(CardSet selectedCards, Player player) {
+        if (selectedCards == null || selectedCards.isEmpty()) {
+            return 0;
+        }
 
-    /**
-     * Calculates the base points from the hand's type.
-     */
-    private static int calculateBasePoints(HandEvaluator evaluator) {
-        return evaluator.getPoints();
+        EvaluationResult result = new HandEvaluator(selectedCards).getResult();
+        return scoringTableOf(player).score(result);
     }
 
     /**
-     * Calculates points based on the numeric values of the core cards.
+     * Calculates the total score for a set of selected cards and records how it was obtained.
+     * Uses a separate traced path, so the regular scoring methods pay nothing for tracing.
+     *
+     * @param selectedCards The cards to evaluate
+     * @param player The player who owns these cards (for bonus calculations)
+     * @param breakdown Receives each contribution to the score, reset first
+     * @return The total calculated score
      */
-    private static int calculateCardValuePoints(Set<Card> coreCards) {
-        return coreCards.stream()
-                .mapToInt(card -> card.value().getNumericValue())
-                .sum();
-    }
+    public static int calculateScore(CardSet selectedCards, Player player, ScoreBreakdown breakdown) {
+        if (selectedCards == null || selectedCards.isEmpty()) {
+            breakdown.reset();
+            return 0;
+        }
 
-    /**
-     * Applies player-specific bonuses based on the hand type.
-     */
-    private static int calculateHandTypeBonus(HandType handType, Player player) {
-        Map<HandType, Integer> handBonuses = player.getHandTypeDamageBonus();
-        return handBonuses.getOrDefault(handType, 0);
+        EvaluationResult result = new HandEvaluator(selectedCards).getResult();
+        return scoringTableOf(player).score(result, breakdown);
     }
 
     /**
-     * Applies player-specific bonuses based on card suits.
+     * Scores many selections against the same frozen bonuses, e.g. for bots and simulations.
+     * Each selection is a card mask (see {@link CardSet}); empty selections score 0.
+     * Evaluations bypass the cache and reuse one evaluator per task, so no memory is
+     * allocated per selection.
+     *
+     * @param scoringTable The bonuses to apply, e.g. {@link Player#getScoringTable()}
+     *                     or {@link ScoringTable#BASE}
+     * @param selections The card masks of the selections to score
+     * @param damages Receives the score of each selection, at the same index
+     * @param parallel Whether to split large batches across all cores
+     * @throws IllegalArgumentException if damages is shorter than selections
      */
-    private static int calculateSuitBonus(Set<Card> coreCards, Player player) {
-        Map<CardSuit, Integer> suitBonuses = player.getSuitDamageBonus();
-        if (suitBonuses.isEmpty()) {
-            return 0;
+    public static void calculateScores(ScoringTable scoringTable, long[] selections, int[] damages, boolean parallel) {
+        if (damages.length < selections.length) {
+            throw new IllegalArgumentException("Damage array is shorter than the selection array");
         }
 
-        int suitBonus = 0;
-        for (Card card : coreCards) {
-            suitBonus += suitBonuses.getOrDefault(card.suit(), 0);
+        int chunks = (selections.length + BATCH_CHUNK_SIZE - 1) / BATCH_CHUNK_SIZE;
+        if (!parallel || chunks <= 1) {
+            scoreRange(scoringTable, selections, damages, 0, selections.length);
+            return;
         }
-
-        return suitBonus;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> scoreRange(scoringTable, selections, damages,
+                chunk * BATCH_CHUNK_SIZE, Math.min(selections.length, (chunk + 1) * BATCH_CHUNK_SIZE)));
     }
 
     /**
-     * Applies player-specific bonuses for honor cards (J, Q, K, A).
+     * Scores many selections sequentially against the same frozen bonuses.
+     *
+     * @param scoringTable The bonuses to apply
+     * @param selections The card masks of the selections to score
+     * @return The score of each selection, at the same index
      */
-    private static int calculateHonorCardBonus(Set<Card> coreCards, Player player) {
-        Map<CardValueType, Integer> honorCardBonuses = player.getCardValueTypeBonus();
-        if (honorCardBonuses.isEmpty()) {
-            return 0;
-        }
-
-        int honorBonus = 0;
-        for (Card card : coreCards) {
-            CardValue value = card.value();
-            if (isHonorCard(value)) {
-                honorBonus += honorCardBonuses.getOrDefault(CardValueType.HONOR, 0);
-            }
-            // You can add more card value type checks here
-        }
-
-        return honorBonus;
+    public static int[] calculateScores(ScoringTable scoringTable, long[] selections) {
+        int[] damages = new int[selections.length];
+        calculateScores(scoringTable, selections, damages, false);
+        return damages;
     }
 
     /**
-     * Determines if a card value is considered an honor card.
+     * Enum to categorize card values for bonus calculations.
      */
-    private static boolean isHonorCard(CardValue value) {
-        // Honor cards are typically Jack, Queen, King, and Ace
-        return value == CardValue.JACK || value == CardValue.QUEEN ||
-                value == CardValue.KING || value == CardValue.ACE;
+    public enum CardValueType {
+        HONOR,  // J, Q, K, A
+        NUMBER  // 2-10
+        // Add more as needed
     }
 
     /**
-     * Applies player-specific bonuses based on the total number of cards in the hand.
+     * Scores the selections in [from, to) with a single reusable evaluator.
      */
-    private static int calculateCardCountBonus(List<Card> selectedCards, Player player) {
-        Map<Integer, Integer> cardCountBonuses = player.getCardCountBonus();
-        if (cardCountBonuses.isEmpty()) {
-            return 0;
-        }
-
-        int bonus = 0;
-        int cardCount = selectedCards.size();
-
-        // Apply bonus for each minimum card count threshold met
-        for (Map.Entry<Integer, Integer> entry : cardCountBonuses.entrySet()) {
-            int minCount = entry.getKey();
-            if (cardCount >= minCount) {
-                bonus += entry.getValue();
+    private static void scoreRange(ScoringTable scoringTable, long[] selections, int[] damages, int from, int to) {
+        HandEvaluator evaluator = new HandEvaluator(GameConfig.HAND_EVALUATION_STRATEGY, null);
+        for (int i = from; i < to; i++) {
+            long selection = selections[i];
+            if (selection == 0L) {
+                damages[i] = 0;
+                continue;
             }
+            evaluator.evaluate(selection);
+            damages[i] = scoringTable.score(evaluator, selection);
         }
-
-        return bonus;
     }
 
     /**
-     * Calculates bonus points for cards that contributed to the hand but were not part
-     * of the core combination.
+     * Gets the table holding the player's bonuses, or the base table when there is no player.
      */
-    private static int calculateRejectionBonus(List<Card> selectedCards, Set<Card> coreCards, Player player) {
-        int rejectionBonusPerCard = player.getRejectionBonus();
-        if (rejectionBonusPerCard <= 0) {
-            return 0;
-        }
-
-        // Create a set of the selected cards to compare with core cards
-        Set<Card> selectedCardSet = new HashSet<>(selectedCards);
-
-        // Find cards that are in the attack but not in the core cards
-        Set<Card> rejectedCards = new HashSet<>(selectedCardSet);
-        rejectedCards.removeAll(coreCards);
-
-        // Calculate bonus based on number of rejected cards
-        return rejectedCards.size() * rejectionBonusPerCard;
+    private static ScoringTable scoringTableOf(Player player) {
+        return player != null ? player.getScoringTable() : ScoringTable.BASE;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,221 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+/**
+ * Itemized record of how a hand's score was computed, filled by the traced scoring path
+ * of {@link PointsCalculator}. An instance can be reused across calls; every call
+ * overwrites the previous contributions.
+ * The flat contributions and item chips form the chips, which the item pipeline then
+ * multiplies by the mult and the multiplicative mults before adding final modifiers.
+ */
+public class ScoreBreakdown {
+    private HandType handType;
+    private CustomHandType customType;
+    private int basePoints;
+    private int cardValuePoints;
+    private int handTypeBonus;
+    private int levelChips;
+    private int suitBonus;
+    private int honorBonus;
+    private int cardCountBonus;
+    private int rejectionBonus;
+    private int enhancementChips;
+    private int enhancementMult;
+    private int enhancementMultPercent = 100;
+    private int effectChips;
+    private long mult = 1;
+    private long multipliedDamage;
+    private int finalBonus;
+    private int total;
+
+    /**
+     * Clears every contribution.
+     */
+    public void reset() {
+        handType = null;
+        customType = null;
+        basePoints = 0;
+        cardValuePoints = 0;
+        handTypeBonus = 0;
+        levelChips = 0;
+        suitBonus = 0;
+        honorBonus = 0;
+        cardCountBonus = 0;
+        rejectionBonus = 0;
+        enhancementChips = 0;
+        enhancementMult = 0;
+        enhancementMultPercent = 100;
+        effectChips = 0;
+        mult = 1;
+        multipliedDamage = 0;
+        finalBonus = 0;
+        total = 0;
+    }
+
+    /**
+     * @return The chips before any mult: flat contributions plus item chips
+     */
+    public int getChips() {
+        return basePoints + cardValuePoints + handTypeBonus + levelChips + suitBonus + honorBonus + cardCountBonus + rejectionBonus
+                + enhancementChips + effectChips;
+    }
+
+    /**
+     * @return The traced score
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return Chips added by item effects
+     */
+    public int getEffectChips() {
+        return effectChips;
+    }
+
+    /**
+     * @return The additive mult, starting at 1 plus the hand level mult
+     */
+    public long getMult() {
+        return mult;
+    }
+
+    /**
+     * @return Chips times mult, after the multiplicative mults
+     */
+    public long getMultipliedDamage() {
+        return multipliedDamage;
+    }
+
+    /**
+     * @return Damage added by final modifiers
+     */
+    public int getFinalBonus() {
+        return finalBonus;
+    }
+
+    void setPipeline(int effectChips, long mult, long multipliedDamage, int finalBonus, int total) {
+        this.effectChips = effectChips;
+        this.mult = mult;
+        this.multipliedDamage = multipliedDamage;
+        this.finalBonus = finalBonus;
+        this.total = total;
+    }
+
+    public HandType getHandType() {
+        return handType;
+    }
+
+    void setHandType(HandType handType) {
+        this.handType = handType;
+    }
+
+    /**
+     * @return The custom hand type scored, or null for a built-in hand type
+     */
+    public CustomHandType getCustomType() {
+        return customType;
+    }
+
+    void setCustomType(CustomHandType customType) {
+        this.customType = customType;
+    }
+
+    public int getBasePoints() {
+        return basePoints;
+    }
+
+    void setBasePoints(int basePoints) {
+        this.basePoints = basePoints;
+    }
+
+    public int getCardValuePoints() {
+        return cardValuePoints;
+    }
+
+    void setCardValuePoints(int cardValuePoints) {
+        this.cardValuePoints = cardValuePoints;
+    }
+
+    public int getHandTypeBonus() {
+        return handTypeBonus;
+    }
+
+    void setHandTypeBonus(int handTypeBonus) {
+        this.handTypeBonus = handTypeBonus;
+    }
+
+    /**
+     * @return Chips added by the hand type's level
+     */
+    public int getLevelChips() {
+        return levelChips;
+    }
+
+    void setLevelChips(int levelChips) {
+        this.levelChips = levelChips;
+    }
+
+    public int getSuitBonus() {
+        return suitBonus;
+    }
+
+    void setSuitBonus(int suitBonus) {
+        this.suitBonus = suitBonus;
+    }
+
+    public int getHonorBonus() {
+        return honorBonus;
+    }
+
+    void setHonorBonus(int honorBonus) {
+        this.honorBonus = honorBonus;
+    }
+
+    public int getCardCountBonus() {
+        return cardCountBonus;
+    }
+
+    void setCardCountBonus(int cardCountBonus) {
+        this.cardCountBonus = cardCountBonus;
+    }
+
+    public int getRejectionBonus() {
+        return rejectionBonus;
+    }
+
+    void setRejectionBonus(int rejectionBonus) {
+        this.rejectionBonus = rejectionBonus;
+    }
+
+    public int getEnhancementChips() {
+        return enhancementChips;
+    }
+
+    public int getEnhancementMult() {
+        return enhancementMult;
+    }
+
+    /**
+     * @return The factor applied to the mult by enhanced cards, in percent
+     */
+    public int getEnhancementMultPercent() {
+        return enhancementMultPercent;
+    }
+
+    void setEnhancements(int chips, int mult, int multPercent) {
+        this.enhancementChips = chips;
+        this.enhancementMult = mult;
+        this.enhancementMultPercent = multPercent;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: (base %d + card values %d + hand type bonus %d + suit bonus %d"
+                        + " + level chips %d + honor bonus %d + card count bonus %d + rejection bonus %d"
+                        + " + enhancement chips %d + item chips %d) x mult %d (enhancements +%d, x%d%%) -> %d + final %d = %d",
+                customType != null ? customType : handType, basePoints, cardValuePoints, handTypeBonus, suitBonus, levelChips, honorBonus, cardCountBonus,
+                rejectionBonus, enhancementChips, effectChips, mult, enhancementMult, enhancementMultPercent, multipliedDamage,
+                finalBonus, total);
+    }
+}
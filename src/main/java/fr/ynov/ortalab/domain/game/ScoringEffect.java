@@ -0,0 +1,78 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+/**
+ * One contribution of an item to the chips-times-mult scoring pipeline.
+ * A per-hand effect applies its value once when the hand type matches; a per-card effect
+ * applies it once for each core card inside its card filter.
+ *
+ * @param stage The pipeline stage the effect belongs to
+ * @param cardFilter Mask of the core cards that trigger the effect (see {@link CardSet}), or 0 for a per-hand effect
+ * @param handTypes Bitmask of the hand type ordinals the effect applies to
+ * @param value Chips, mult or damage added, or the multiplier in percent for {@link Stage#MUL_MULT}
+ */
+public record ScoringEffect(Stage stage, long cardFilter, int handTypes, int value) {
+    /**
+     * Bitmask matching every hand type.
+     */
+    public static final int ALL_HAND_TYPES = (1 << HandType.values().length) - 1;
+
+    /**
+     * Pipeline stages, applied in declaration order.
+     * Damage is (chips * mult) scaled by the multiplicative mults, plus the final modifiers.
+     */
+    public enum Stage {
+        BASE_CHIPS,  // Chips added once per hand
+        CARD_CHIPS,  // Chips added per scoring card
+        ADD_MULT,    // Added to the mult, which starts at 1
+        MUL_MULT,    // Multiplies the damage, in percent (150 is x1.5)
+        FINAL        // Damage added after multiplication
+    }
+
+    /**
+     * Creates an effect applied once per hand.
+     *
+     * @param stage The pipeline stage
+     * @param value The amount of the effect
+     * @param handTypes The hand types it applies to, or none for all
+     * @return The effect
+     */
+    public static ScoringEffect perHand(Stage stage, int value, HandType... handTypes) {
+        return new ScoringEffect(stage, 0L, maskOf(handTypes), value);
+    }
+
+    /**
+     * Creates an effect applied once per core card inside a filter, e.g. {@link CardSet#suitMask(int)}.
+     *
+     * @param stage The pipeline stage
+     * @param cardFilter The cards that trigger the effect
+     * @param value The amount of the effect per card
+     * @param handTypes The hand types it applies to, or none for all
+     * @return The effect
+     */
+    public static ScoringEffect perCard(Stage stage, long cardFilter, int value, HandType... handTypes) {
+        if (cardFilter == 0L) {
+            throw new IllegalArgumentException("A per-card effect needs at least one card in its filter");
+        }
+        return new ScoringEffect(stage, cardFilter, maskOf(handTypes), value);
+    }
+
+    /**
+     * @return true if the effect applies once per matching core card
+     */
+    public boolean isPerCard() {
+        return cardFilter != 0L;
+    }
+
+    private static int maskOf(HandType... handTypes) {
+        if (handTypes.length == 0) {
+            return ALL_HAND_TYPES;
+        }
+        int mask = 0;
+        for (HandType handType : handTypes) {
+            mask |= 1 << handType.ordinal();
+        }
+        return mask;
+    }
+}
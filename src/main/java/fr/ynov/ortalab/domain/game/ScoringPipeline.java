@@ -0,0 +1,153 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Item scoring effects compiled into flat primitive arrays, ordered by stage.
+ * Applying the pipeline is a single loop over those arrays with a switch on the stage,
+ * and per-card effects count their matching core cards with one population count,
+ * so no method is dispatched per effect or per card.
+ */
+public final class ScoringPipeline {
+    /**
+     * Pipeline without any effect: damage equals the chips times the base mult.
+     */
+    public static final ScoringPipeline EMPTY = compile(List.of());
+
+    private static final ScoringEffect.Stage[] STAGES = ScoringEffect.Stage.values();
+    private static final int PERCENT = 100;
+
+    private final byte[] stages;
+    private final long[] cardFilters;
+    private final int[] handTypes;
+    private final int[] values;
+
+    private ScoringPipeline(List<ScoringEffect> effects) {
+        int size = effects.size();
+        stages = new byte[size];
+        cardFilters = new long[size];
+        handTypes = new int[size];
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            ScoringEffect effect = effects.get(i);
+            stages[i] = (byte) effect.stage().ordinal();
+            cardFilters[i] = effect.cardFilter();
+            handTypes[i] = effect.handTypes();
+            values[i] = effect.value();
+        }
+    }
+
+    /**
+     * Compiles effects into a pipeline. Effects of the same stage keep their relative order.
+     *
+     * @param effects The effects registered by the player's items
+     * @return The compiled pipeline
+     */
+    public static ScoringPipeline compile(List<ScoringEffect> effects) {
+        List<ScoringEffect> ordered = new ArrayList<>(effects);
+        ordered.sort(Comparator.comparing(ScoringEffect::stage));
+        return new ScoringPipeline(ordered);
+    }
+
+    public boolean isEmpty() {
+        return stages.length == 0;
+    }
+
+    /**
+     * Tells whether two suits play the same role in every card filter, so that swapping
+     * the cards of one suit with those of the other can never change the damage.
+     *
+     * @param suit The first suit ordinal
+     * @param other The second suit ordinal
+     * @return true if every effect selects the same values in both suits
+     */
+    public boolean areSuitsInterchangeable(int suit, int other) {
+        for (long filter : cardFilters) {
+            if ((filter & CardSet.suitMask(suit)) >>> (suit * CardSet.VALUE_COUNT)
+                    != (filter & CardSet.suitMask(other)) >>> (other * CardSet.VALUE_COUNT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Turns the chips of a hand into its damage.
+     *
+     * @param chips The chips from hand type, card values and flat bonuses
+     * @param mult The mult before item effects, at least 1
+     * @param handType The hand type played
+     * @param coreMask The cards forming the combination
+     * @return The damage, between 0 and Integer.MAX_VALUE
+     */
+    public int apply(int chips, int mult, HandType handType, long coreMask) {
+        return apply(chips, mult, PERCENT, handType, coreMask, null);
+    }
+
+    /**
+     * Turns the chips of a hand into its damage, with a factor applied to the mult
+     * before any multiplicative effect, such as the one of enhanced cards.
+     *
+     * @param chips The chips from hand type, card values and flat bonuses
+     * @param mult The mult before item effects, at least 1
+     * @param multPercent The factor applied to the mult, in percent
+     * @param handType The hand type played
+     * @param coreMask The cards forming the combination
+     * @return The damage, between 0 and Integer.MAX_VALUE
+     */
+    public int apply(int chips, int mult, int multPercent, HandType handType, long coreMask) {
+        return apply(chips, mult, multPercent, handType, coreMask, null);
+    }
+
+    /**
+     * Turns the chips of a hand into its damage, recording each stage when a breakdown is given.
+     */
+    int apply(int chips, int baseMult, int multPercent, HandType handType, long coreMask, ScoreBreakdown breakdown) {
+        int handTypeBit = 1 << handType.ordinal();
+        long effectChips = 0;
+        long mult = baseMult;
+        long damage = 0;
+        long finalDamage = 0;
+        boolean multiplied = false;
+
+        for (int i = 0; i < stages.length; i++) {
+            if ((handTypes[i] & handTypeBit) == 0) {
+                continue;
+            }
+            long filter = cardFilters[i];
+            int times = filter != 0L ? Long.bitCount(coreMask & filter) : 1;
+            if (times == 0) {
+                continue;
+            }
+
+            int stage = stages[i];
+            if (!multiplied && stage >= ScoringEffect.Stage.MUL_MULT.ordinal()) {
+                damage = (chips + effectChips) * mult * multPercent / PERCENT;
+                multiplied = true;
+            }
+            switch (STAGES[stage]) {
+                case BASE_CHIPS, CARD_CHIPS -> effectChips += (long) values[i] * times;
+                case ADD_MULT -> mult += (long) values[i] * times;
+                case MUL_MULT -> {
+                    for (int t = 0; t < times; t++) {
+                        damage = damage * values[i] / PERCENT;
+                    }
+                }
+                case FINAL -> finalDamage += (long) values[i] * times;
+            }
+        }
+        if (!multiplied) {
+            damage = (chips + effectChips) * mult * multPercent / PERCENT;
+        }
+
+        int total = (int) Math.max(0, Math.min(Integer.MAX_VALUE, damage + finalDamage));
+        if (breakdown != null) {
+            breakdown.setPipeline((int) effectChips, mult, damage, (int) finalDamage, total);
+        }
+        return total;
+    }
+}
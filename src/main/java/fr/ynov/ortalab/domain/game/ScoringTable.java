@@ -0,0 +1,313 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardEnhancement;
+import main.java.fr.ynov.ortalab.domain.card.CardEnhancements;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.card.CardSuit;
+import main.java.fr.ynov.ortalab.domain.card.CardValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, flattened copy of a player's scoring bonuses.
+ * Every bonus map of the {@link Player} is read once at compile time and folded into
+ * primitive arrays indexed by card bit index, hand type ordinal and card count,
+ * so scoring a hand is a handful of array reads and no map lookup.
+ * Card enhancements of the player's deck are folded the same way: their chips join the
+ * card points, and their mult is only read for the cards of a precomputed mask.
+ * Scoring effects of the player's items are compiled into a {@link ScoringPipeline}
+ * that turns those chips into the final damage.
+ * The unfolded bonuses are kept aside for {@link #score(EvaluationResult, ScoreBreakdown)},
+ * which explains a score without slowing down the untraced path.
+ */
+public final class ScoringTable {
+    /**
+     * Table without any player bonus: only hand type base points and card values.
+     */
+    public static final ScoringTable BASE = new ScoringTable(-1, null);
+
+    private static final int PERCENT = 100;
+
+    private final int version;
+    private final int[] cardPoints = new int[CardSet.CARD_COUNT];              // Value + suit + honor bonus per core card, 0 for jokers
+    private final int[] handTypePoints = new int[HandType.values().length];    // Base points + hand type bonus + level chips
+    private final int[] handTypeMult = new int[HandType.values().length];      // 1 + level mult
+    private final int[] cardCountBonus = new int[CardSet.CARD_COUNT + 1];      // Total count bonus per selection size
+    private final int rejectionBonus;                                          // Per selected card outside the core
+    private final int[] cardMult = new int[CardSet.CARD_COUNT];                // Mult added by each enhanced card
+    private final int[] cardMultPercent = new int[CardSet.CARD_COUNT];         // Mult factor of each enhanced card, in percent
+    private final long multCards;                                              // Cards whose enhancement changes the mult
+
+    // Unfolded bonuses, only read when tracing
+    private final int[] suitBonus = new int[CardSet.SUIT_COUNT];
+    private final int[] handTypeBonus = new int[HandType.values().length];
+    private final int[] levelChips = new int[HandType.values().length];
+    private final int honorBonus;
+    private final CardEnhancement[] enhancements = new CardEnhancement[CardSet.CARD_COUNT];
+
+    private final ScoringPipeline pipeline;
+    private final SuitCanonicalizer suitCanonicalizer;
+
+    private ScoringTable(int version, Player player) {
+        this.version = version;
+
+        Map<CardSuit, Integer> suitBonuses = player != null ? player.getSuitDamageBonus() : Map.of();
+        Map<PointsCalculator.CardValueType, Integer> valueTypeBonuses = player != null ? player.getCardValueTypeBonus() : Map.of();
+        this.honorBonus = valueTypeBonuses.getOrDefault(PointsCalculator.CardValueType.HONOR, 0);
+        for (CardSuit suit : CardSuit.values()) {
+            suitBonus[suit.ordinal()] = suitBonuses.getOrDefault(suit, 0);
+        }
+        for (int index = 0; index < CardSet.DECK_SIZE; index++) {
+            Card card = CardSet.cardAt(index);
+            cardPoints[index] = card.value().getNumericValue()
+                    + suitBonuses.getOrDefault(card.suit(), 0)
+                    + (isHonorCard(card.value()) ? honorBonus : 0);
+        }
+
+        CardEnhancements deckEnhancements = player != null ? player.getCardEnhancements() : null;
+        long enhancedMultCards = 0L;
+        for (int index = 0; index < CardSet.CARD_COUNT; index++) {
+            CardEnhancement enhancement = deckEnhancements != null ? deckEnhancements.get(index) : CardEnhancement.NONE;
+            enhancements[index] = enhancement;
+            cardPoints[index] += enhancement.getChips();
+            cardMult[index] = enhancement.getMult();
+            cardMultPercent[index] = enhancement.getMultPercent();
+            if (enhancement.getMult() != 0 || enhancement.getMultPercent() != PERCENT) {
+                enhancedMultCards |= 1L << index;
+            }
+        }
+        this.multCards = enhancedMultCards;
+
+        Map<HandType, Integer> handBonuses = player != null ? player.getHandTypeDamageBonus() : Map.of();
+        for (HandType handType : HandType.values()) {
+            int level = player != null ? player.getHandLevel(handType) : 1;
+            handTypeBonus[handType.ordinal()] = handBonuses.getOrDefault(handType, 0);
+            levelChips[handType.ordinal()] = HandLevelTable.chipsAt(handType, level);
+            handTypePoints[handType.ordinal()] = handType.getBasePoints() + handTypeBonus[handType.ordinal()]
+                    + levelChips[handType.ordinal()];
+            handTypeMult[handType.ordinal()] = 1 + HandLevelTable.multAt(handType, level);
+        }
+
+        // Apply bonus for each minimum card count threshold met
+        Map<Integer, Integer> countBonuses = player != null ? player.getCardCountBonus() : Map.of();
+        for (Map.Entry<Integer, Integer> entry : countBonuses.entrySet()) {
+            for (int count = Math.max(0, entry.getKey()); count < cardCountBonus.length; count++) {
+                cardCountBonus[count] += entry.getValue();
+            }
+        }
+
+        this.rejectionBonus = player != null ? Math.max(0, player.getRejectionBonus()) : 0;
+
+        List<ScoringEffect> effects = new ArrayList<>();
+        if (player != null) {
+            for (Item item : player.getInventory()) {
+                effects.addAll(item.getScoringEffects());
+            }
+        }
+        this.pipeline = effects.isEmpty() ? ScoringPipeline.EMPTY : ScoringPipeline.compile(effects);
+        this.suitCanonicalizer = new SuitCanonicalizer(computeScoringClasses());
+    }
+
+    /**
+     * Compiles the current bonuses of a player.
+     *
+     * @param player The player whose bonuses are read
+     * @param version The player's bonus version at compile time
+     * @return The compiled table
+     */
+    static ScoringTable compile(Player player, int version) {
+        return new ScoringTable(version, player);
+    }
+
+    /**
+     * Scores an evaluated hand.
+     *
+     * @param result The evaluation of the selected cards
+     * @return The total score of the hand
+     */
+    public int score(EvaluationResult result) {
+        return score(result.customType(), result.handType(), result.cards(), result.coreMask());
+    }
+
+    /**
+     * Scores the last evaluation of an evaluator without building its result.
+     *
+     * @param evaluator The evaluator holding the evaluation of the selected cards
+     * @param selectedMask The selected cards, counted by the card count and rejection bonuses
+     * @return The total score of the hand
+     */
+    public int score(HandEvaluator evaluator, long selectedMask) {
+        return score(evaluator.getCustomType(), evaluator.getBuiltInType(), selectedMask, evaluator.getCoreMask());
+    }
+
+    /**
+     * Scores a hand from its hand type and card masks.
+     *
+     * @param handType The hand type of the selected cards
+     * @param selectedMask The selected cards
+     * @param coreMask The cards forming the combination
+     * @return The total score of the hand
+     */
+    public int score(HandType handType, long selectedMask, long coreMask) {
+        return score(handTypePoints[handType.ordinal()], handTypeMult[handType.ordinal()], handType, selectedMask, coreMask);
+    }
+
+    private int score(CustomHandType customType, HandType handType, long selectedMask, long coreMask) {
+        if (customType != null) {
+            // Custom hand types have no bonus or level of their own
+            return score(customType.basePoints(), 1, handType, selectedMask, coreMask);
+        }
+        return score(handType, selectedMask, coreMask);
+    }
+
+    private int score(int handPoints, int mult, HandType handType, long selectedMask, long coreMask) {
+        int points = handPoints;
+        for (long remaining = coreMask; remaining != 0; remaining &= remaining - 1) {
+            points += cardPoints[Long.numberOfTrailingZeros(remaining)];
+        }
+        points += cardCountBonus[Long.bitCount(selectedMask)];
+        points += Long.bitCount(selectedMask & ~coreMask) * rejectionBonus;
+
+        int multPercent = PERCENT;
+        for (long remaining = coreMask & multCards; remaining != 0; remaining &= remaining - 1) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            mult += cardMult[index];
+            multPercent = multPercent * cardMultPercent[index] / PERCENT;
+        }
+        if (pipeline.isEmpty()) {
+            if (multPercent == PERCENT) {
+                return mult == 1 ? points : points * mult;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, (long) points * mult * multPercent / PERCENT);
+        }
+        return pipeline.apply(points, mult, multPercent, handType, coreMask);
+    }
+
+    /**
+     * Scores an evaluated hand and records every contribution to the score.
+     * Slower than {@link #score(EvaluationResult)}, meant for explaining a result.
+     *
+     * @param result The evaluation of the selected cards
+     * @param breakdown Receives the contributions, overwriting previous ones
+     * @return The total score of the hand, equal to the untraced score
+     */
+    public int score(EvaluationResult result, ScoreBreakdown breakdown) {
+        breakdown.reset();
+        HandType handType = result.handType();
+        breakdown.setHandType(handType);
+        breakdown.setCustomType(result.customType());
+        breakdown.setBasePoints(result.getBasePoints());
+        if (!result.isCustom()) {
+            breakdown.setHandTypeBonus(handTypeBonus[handType.ordinal()]);
+            breakdown.setLevelChips(levelChips[handType.ordinal()]);
+        }
+
+        int cardValues = 0;
+        int suits = 0;
+        int honors = 0;
+        int enhancementChips = 0;
+        int enhancementMult = 0;
+        int multPercent = PERCENT;
+        for (long remaining = result.coreMask(); remaining != 0; remaining &= remaining - 1) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            CardEnhancement enhancement = enhancements[index];
+            enhancementChips += enhancement.getChips();
+            enhancementMult += enhancement.getMult();
+            multPercent = multPercent * enhancement.getMultPercent() / PERCENT;
+
+            Card card = CardSet.cardAt(index);
+            if (card.isJoker()) {
+                continue;
+            }
+            cardValues += card.value().getNumericValue();
+            suits += suitBonus[card.suit().ordinal()];
+            honors += isHonorCard(card.value()) ? honorBonus : 0;
+        }
+        breakdown.setCardValuePoints(cardValues);
+        breakdown.setSuitBonus(suits);
+        breakdown.setHonorBonus(honors);
+        breakdown.setEnhancements(enhancementChips, enhancementMult, multPercent);
+
+        breakdown.setCardCountBonus(cardCountBonus[Long.bitCount(result.cards())]);
+        breakdown.setRejectionBonus(result.getNonCoreCount() * rejectionBonus);
+
+        int chips = breakdown.getChips();
+        int mult = (result.isCustom() ? 1 : handTypeMult[handType.ordinal()]) + enhancementMult;
+        if (pipeline.isEmpty()) {
+            int total = multPercent == PERCENT
+                    ? (mult == 1 ? chips : chips * mult)
+                    : (int) Math.min(Integer.MAX_VALUE, (long) chips * mult * multPercent / PERCENT);
+            breakdown.setPipeline(0, mult, total, 0, total);
+            return total;
+        }
+        return pipeline.apply(chips, mult, multPercent, handType, result.coreMask(), breakdown);
+    }
+
+    /**
+     * Tells whether two cards of the same value always score the same, whatever their suit:
+     * no suit bonus, enhancement or item effect favours one suit.
+     * Hands that only differ by a permutation of suits then deal the same damage.
+     *
+     * @return true if scoring ignores suits
+     */
+    public boolean isSuitNeutral() {
+        return suitCanonicalizer.areInterchangeable(0, CardSet.SUIT_COUNT - 1);
+    }
+
+    /**
+     * @return The canonicalizer for the suit permutations these bonuses leave unchanged
+     */
+    public SuitCanonicalizer getSuitCanonicalizer() {
+        return suitCanonicalizer;
+    }
+
+    /**
+     * @return The player bonus version this table was compiled from
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Groups the suits whose cards score alike, value for value.
+     *
+     * @return For each suit, the lowest suit it scores like
+     */
+    private int[] computeScoringClasses() {
+        int[] classes = new int[CardSet.SUIT_COUNT];
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            classes[suit] = suit;
+            for (int other = 0; other < suit; other++) {
+                if (scoresAlike(suit, other)) {
+                    classes[suit] = classes[other];
+                    break;
+                }
+            }
+        }
+        return classes;
+    }
+
+    private boolean scoresAlike(int suit, int other) {
+        for (int rank = 0; rank < CardSet.VALUE_COUNT; rank++) {
+            int index = suit * CardSet.VALUE_COUNT + rank;
+            int otherIndex = other * CardSet.VALUE_COUNT + rank;
+            if (cardPoints[index] != cardPoints[otherIndex] || cardMult[index] != cardMult[otherIndex]
+                    || cardMultPercent[index] != cardMultPercent[otherIndex]) {
+                return false;
+            }
+        }
+        return pipeline.areSuitsInterchangeable(suit, other);
+    }
+
+    /**
+     * Determines if a card value is considered an honor card.
+     */
+    private static boolean isHonorCard(CardValue value) {
+        // Honor cards are typically Jack, Queen, King, and Ace
+        return value == CardValue.JACK || value == CardValue.QUEEN ||
+                value == CardValue.KING || value == CardValue.ACE;
+    }
+}
@@ -0,0 +1,199 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+/**
+ * Evaluator for a card selection that changes one card at a time, such as the live hand preview.
+ * Adding or removing a card updates the rank and suit histograms and the number of pairs,
+ * trips and quads in constant time; the hand type is then read from the lookup tables
+ * of {@link LookupHandEvaluator} without walking the selection.
+ * Jokers are only counted; a selection holding one is graded by {@link WildHandEvaluator}.
+ * Use {@link HandEvaluator} on {@link #getCards()} when the core and used cards are needed.
+ * Not thread-safe.
+ */
+public final class SelectionEvaluator {
+    private long cards;
+    private final int[] rankCounts = new int[CardSet.VALUE_COUNT];
+    private final int[] suitCounts = new int[CardSet.SUIT_COUNT];
+    private final int[] suitRanks = new int[CardSet.SUIT_COUNT];
+    private int ranks;
+    private int pairs;
+    private int trips;
+    private int quads;
+    private HandType handType;
+    private WildHandEvaluator wild;  // Created on the first selected joker
+
+    /**
+     * Adds a card to the selection. Adding a selected card has no effect.
+     *
+     * @param card The card to add
+     */
+    public void add(Card card) {
+        int index = CardSet.indexOf(card);
+        if ((cards & 1L << index) != 0) {
+            return;
+        }
+        cards |= 1L << index;
+        handType = null;
+        if (card.isJoker()) {
+            return;
+        }
+
+        int rank = index % CardSet.VALUE_COUNT;
+        int suit = index / CardSet.VALUE_COUNT;
+        updateMultiplicity(rankCounts[rank], -1);
+        rankCounts[rank]++;
+        updateMultiplicity(rankCounts[rank], 1);
+
+        suitCounts[suit]++;
+        suitRanks[suit] |= 1 << rank;
+        ranks |= 1 << rank;
+    }
+
+    /**
+     * Removes a card from the selection. Removing an unselected card has no effect.
+     *
+     * @param card The card to remove
+     */
+    public void remove(Card card) {
+        int index = CardSet.indexOf(card);
+        if ((cards & 1L << index) == 0) {
+            return;
+        }
+        cards &= ~(1L << index);
+        handType = null;
+        if (card.isJoker()) {
+            return;
+        }
+
+        int rank = index % CardSet.VALUE_COUNT;
+        int suit = index / CardSet.VALUE_COUNT;
+        updateMultiplicity(rankCounts[rank], -1);
+        rankCounts[rank]--;
+        updateMultiplicity(rankCounts[rank], 1);
+
+        suitCounts[suit]--;
+        suitRanks[suit] &= ~(1 << rank);
+        if (rankCounts[rank] == 0) {
+            ranks &= ~(1 << rank);
+        }
+    }
+
+    /**
+     * Empties the selection.
+     */
+    public void clear() {
+        while (cards != 0) {
+            remove(CardSet.cardAt(Long.numberOfTrailingZeros(cards)));
+        }
+    }
+
+    /**
+     * Gets the type of the selected hand, derived from the histograms.
+     *
+     * @return The hand type, or null if nothing is selected
+     */
+    public HandType getHandType() {
+        if (handType == null && cards != 0) {
+            handType = computeHandType();
+        }
+        return handType;
+    }
+
+    /**
+     * Gets the custom hand type formed by the selection, if any (see {@link HandTypeRegistry}).
+     * A selection larger than a played hand is searched for one among its five-card subsets.
+     *
+     * @return The custom hand type, or null if the built-in hand type stands or nothing is selected
+     */
+    public CustomHandType getCustomType() {
+        if (cards == 0 || HandTypeRegistry.isEmpty() || (cards & CardSet.JOKER_MASK) != 0) {
+            return null;
+        }
+        if (Long.bitCount(cards) > GameConfig.ACTIVE_HAND_SIZE) {
+            return new HandEvaluator(new CardSet(cards)).getCustomType();
+        }
+        return HandTypeRegistry.classify(HandFeatures.indexOf(bestFlushType(), LookupHandEvaluator.hasStraight(ranks),
+                quads, trips, pairs));
+    }
+
+    /**
+     * @return The display name of the selected hand, custom or built-in, or null if nothing is selected
+     */
+    public String getHandName() {
+        CustomHandType customType = getCustomType();
+        HandType type = getHandType();
+        return customType != null ? customType.name() : type != null ? type.getName() : null;
+    }
+
+    /**
+     * @return The base points of the selected hand, custom or built-in, or 0 if nothing is selected
+     */
+    public int getBasePoints() {
+        CustomHandType customType = getCustomType();
+        HandType type = getHandType();
+        return customType != null ? customType.basePoints() : type != null ? type.getBasePoints() : 0;
+    }
+
+    /**
+     * @return The selected cards
+     */
+    public CardSet getCards() {
+        return new CardSet(cards);
+    }
+
+    public int size() {
+        return Long.bitCount(cards);
+    }
+
+    public boolean isEmpty() {
+        return cards == 0;
+    }
+
+    private void updateMultiplicity(int count, int delta) {
+        switch (count) {
+            case 2 -> pairs += delta;
+            case 3 -> trips += delta;
+            case 4 -> quads += delta;
+            default -> {
+            }
+        }
+    }
+
+    private HandType computeHandType() {
+        if ((cards & CardSet.JOKER_MASK) != 0) {
+            if (wild == null) {
+                wild = new WildHandEvaluator();
+            }
+            return wild.evaluate(cards);
+        }
+        HandType flushType = bestFlushType();
+        if (flushType != null && flushType != HandType.FLUSH) {
+            return flushType;
+        }
+
+        HandType patternType = LookupHandEvaluator.patternTypeOf(quads > 0, trips, pairs);
+        if (patternType.ordinal() > HandType.FLUSH.ordinal()) {
+            return patternType;
+        }
+        if (flushType != null) {
+            return flushType;
+        }
+        return LookupHandEvaluator.hasStraight(ranks) ? HandType.STRAIGHT : patternType;
+    }
+
+    private HandType bestFlushType() {
+        HandType flushType = null;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            if (suitCounts[suit] >= 5) {
+                HandType type = LookupHandEvaluator.flushTypeOf(suitRanks[suit]);
+                if (flushType == null || type.ordinal() > flushType.ordinal()) {
+                    flushType = type;
+                }
+            }
+        }
+        return flushType;
+    }
+}
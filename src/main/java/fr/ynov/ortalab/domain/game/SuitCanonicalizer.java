@@ -0,0 +1,223 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+import java.util.Arrays;
+
+/**
+ * Maps hands, optionally with a deck state, to a canonical representative under the suit
+ * permutations that leave scoring unchanged, so caches, tables and searches can key on it.
+ * <p>
+ * Two suits are interchangeable when their cards score alike (see {@link ScoringTable#getSuitCanonicalizer()}),
+ * but only within a run of neighbouring suits: the evaluators break ties between equal values
+ * by lowest suit, so a permutation must keep the order between suits that score differently.
+ * Without any suit-specific bonus the four suits form one run and a hand stands for up to 24 others;
+ * with "The Moon" (Clubs) and "The Sun" (Diamonds) only Hearts and Spades remain interchangeable.
+ * <p>
+ * Within a run, the suits are sorted by the ranks they hold in the hand, then in the deck,
+ * and the richest one is moved to the lowest suit. Jokers are left in place.
+ */
+public final class SuitCanonicalizer {
+    /**
+     * Canonicalizer for suit-neutral scoring, where every suit permutation is allowed.
+     */
+    public static final SuitCanonicalizer NEUTRAL = new SuitCanonicalizer(new int[CardSet.SUIT_COUNT]);
+
+    private static final int RANK_COUNT = CardSet.VALUE_COUNT;
+    private static final long RANK_MASK = (1L << RANK_COUNT) - 1;
+    private static final int SUIT_BITS = 2;  // Per-suit target in a packed permutation
+    private static final int IDENTITY = identity();
+
+    private final int[] runStarts;  // First suit of the run each suit belongs to
+    private final int symmetryCount;
+    private final int[] permutations;  // Every allowed permutation, packed
+
+    /**
+     * A hand and deck moved to their canonical suits.
+     *
+     * @param hand The canonical hand
+     * @param deck The canonical deck, 0 if none was given
+     * @param permutation Target suit of each original suit, two bits per suit
+     * @param orbitSize Number of distinct (hand, deck) pairs sharing this canonical form
+     */
+    public record CanonicalForm(long hand, long deck, int permutation, int orbitSize) {
+        /**
+         * Moves cards from the original suits to the canonical ones.
+         *
+         * @param cards A card mask in the original suits
+         * @return The same cards in the canonical suits
+         */
+        public long toCanonical(long cards) {
+            return permute(cards, permutation);
+        }
+
+        /**
+         * Moves cards from the canonical suits back to the original ones, for instance to map
+         * a discard chosen on the canonical hand onto the real hand.
+         *
+         * @param cards A card mask in the canonical suits
+         * @return The same cards in the original suits
+         */
+        public long toOriginal(long cards) {
+            return permute(cards, inverse(permutation));
+        }
+    }
+
+    /**
+     * Creates a canonicalizer from the scoring class of each suit.
+     *
+     * @param scoringClasses Suits with equal values score alike
+     */
+    SuitCanonicalizer(int[] scoringClasses) {
+        this.runStarts = new int[CardSet.SUIT_COUNT];
+        int count = 1;
+        int runLength = 0;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            boolean continues = suit > 0 && scoringClasses[suit] == scoringClasses[suit - 1];
+            runStarts[suit] = continues ? runStarts[suit - 1] : suit;
+            runLength = continues ? runLength + 1 : 1;
+            count *= runLength;
+        }
+        this.symmetryCount = count;
+        this.permutations = new int[count];
+        collectPermutations(0, 0, 0, new int[]{0});
+    }
+
+    /**
+     * Canonicalizes a hand alone.
+     *
+     * @param hand The card mask of the hand (see {@link CardSet})
+     * @return The canonical hand, equal for every hand reachable by an allowed suit permutation
+     */
+    public long canonicalize(long hand) {
+        return canonicalize(hand, 0L).hand();
+    }
+
+    /**
+     * Canonicalizes a hand together with a deck state, with the same permutation for both.
+     *
+     * @param hand The card mask of the hand
+     * @param deck The card mask of the deck, such as the cards left to draw
+     * @return The canonical form and the permutation leading to it
+     */
+    public CanonicalForm canonicalize(long hand, long deck) {
+        if (symmetryCount == 1) {
+            return new CanonicalForm(hand, deck, IDENTITY, 1);
+        }
+        long[] keys = new long[CardSet.SUIT_COUNT];
+        int[] order = new int[CardSet.SUIT_COUNT];
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            keys[suit] = suitRanks(hand, suit) << RANK_COUNT | suitRanks(deck, suit);
+            order[suit] = suit;
+        }
+
+        // Sorts the suits of each run by descending key, then counts the ways to reach the same form
+        int permutation = 0;
+        int orbitSize = 1;
+        for (int start = 0; start < CardSet.SUIT_COUNT; ) {
+            int end = start + 1;
+            while (end < CardSet.SUIT_COUNT && runStarts[end] == start) {
+                end++;
+            }
+            for (int i = start + 1; i < end; i++) {
+                int suit = order[i];
+                int j = i;
+                for (; j > start && keys[order[j - 1]] < keys[suit]; j--) {
+                    order[j] = order[j - 1];
+                }
+                order[j] = suit;
+            }
+            int tie = 1;
+            for (int i = start; i < end; i++) {
+                permutation |= i << (order[i] * SUIT_BITS);
+                tie = i > start && keys[order[i]] == keys[order[i - 1]] ? tie + 1 : 1;
+                orbitSize = orbitSize * (i - start + 1) / tie;
+            }
+            start = end;
+        }
+        return new CanonicalForm(permute(hand, permutation), permute(deck, permutation), permutation, orbitSize);
+    }
+
+    /**
+     * Lists every hand an allowed suit permutation leads to, such as all the hands sharing
+     * an entry of a table keyed by canonical hands.
+     *
+     * @param hand The card mask of the hand
+     * @return The distinct images of the hand, the hand itself included
+     */
+    public long[] orbitOf(long hand) {
+        long[] orbit = new long[symmetryCount];
+        int size = 0;
+        for (int permutation : permutations) {
+            long image = permute(hand, permutation);
+            boolean seen = false;
+            for (int i = 0; i < size && !seen; i++) {
+                seen = orbit[i] == image;
+            }
+            if (!seen) {
+                orbit[size++] = image;
+            }
+        }
+        return Arrays.copyOf(orbit, size);
+    }
+
+    /**
+     * @return Number of suit permutations that leave scoring unchanged, from 1 to 24
+     */
+    public int getSymmetryCount() {
+        return symmetryCount;
+    }
+
+    /**
+     * @param suit The first suit ordinal
+     * @param other The second suit ordinal
+     * @return true if the canonicalizer may swap the two suits
+     */
+    public boolean areInterchangeable(int suit, int other) {
+        return runStarts[suit] == runStarts[other];
+    }
+
+    /**
+     * Assigns a target suit to each suit in turn, among the unused suits of its run.
+     */
+    private void collectPermutations(int suit, int permutation, int usedTargets, int[] size) {
+        if (suit == CardSet.SUIT_COUNT) {
+            permutations[size[0]++] = permutation;
+            return;
+        }
+        for (int target = runStarts[suit]; target < CardSet.SUIT_COUNT && runStarts[target] == runStarts[suit]; target++) {
+            if ((usedTargets & 1 << target) == 0) {
+                collectPermutations(suit + 1, permutation | target << (suit * SUIT_BITS), usedTargets | 1 << target, size);
+            }
+        }
+    }
+
+    private static long permute(long cards, int permutation) {
+        long permuted = cards & CardSet.JOKER_MASK;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            int target = (permutation >>> (suit * SUIT_BITS)) & 3;
+            permuted |= suitRanks(cards, suit) << (target * RANK_COUNT);
+        }
+        return permuted;
+    }
+
+    private static int inverse(int permutation) {
+        int inverse = 0;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            inverse |= suit << (((permutation >>> (suit * SUIT_BITS)) & 3) * SUIT_BITS);
+        }
+        return inverse;
+    }
+
+    private static int identity() {
+        int identity = 0;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            identity |= suit << (suit * SUIT_BITS);
+        }
+        return identity;
+    }
+
+    private static long suitRanks(long cards, int suit) {
+        return (cards >>> (suit * RANK_COUNT)) & RANK_MASK;
+    }
+}
@@ -0,0 +1,329 @@
+package main.java.fr.ynov.ortalab.domain.game;
+
+import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.card.CardValue;
+import main.java.fr.ynov.ortalab.domain.utils.HandUtils;
+
+/**
+ * Evaluator for hands holding jokers, which can stand in for any card.
+ * Instead of trying every substitution, each hand type is tested from the highest down
+ * by counting how many jokers it is missing, using rank-pattern tables of the straights
+ * reachable with 0 to {@link Card#JOKER_COUNT} missing cards; the first reachable type
+ * is completed with the highest ranks, so a hand with jokers costs about one evaluation.
+ * Jokers count in the used and core cards, and the strength is the one of the best completion.
+ * Hands without jokers belong to {@link LookupHandEvaluator}.
+ * Instances hold the result of the last evaluation and can be reused freely,
+ * but are not thread-safe.
+ */
+public final class WildHandEvaluator {
+    private static final int RANK_COUNT = CardSet.VALUE_COUNT;
+    private static final int RANK_PATTERNS = 1 << RANK_COUNT;
+    private static final int RANK_MASK = RANK_PATTERNS - 1;
+    private static final int ACE = CardValue.ACE.ordinal();
+    private static final int KING = CardValue.KING.ordinal();
+    private static final int FIVE = CardValue.FIVE.ordinal();
+    private static final int NONE = -1;
+
+    /**
+     * Ranks of the five-card straight ending at each top rank, the wheel ending at FIVE.
+     */
+    private static final int[] STRAIGHT_WINDOW = new int[RANK_COUNT];
+
+    /**
+     * Rank of the highest straight top reachable with a number of wild cards,
+     * indexed by [wild cards][rank pattern], or NONE.
+     */
+    private static final byte[][] STRAIGHT_TOP = new byte[Card.JOKER_COUNT + 1][RANK_PATTERNS];
+
+    static {
+        for (int top = FIVE; top <= ACE; top++) {
+            STRAIGHT_WINDOW[top] = top == FIVE ? (1 << ACE) | 0b1111 : 0b11111 << (top - 4);
+        }
+        for (int wilds = 0; wilds <= Card.JOKER_COUNT; wilds++) {
+            for (int ranks = 0; ranks < RANK_PATTERNS; ranks++) {
+                STRAIGHT_TOP[wilds][ranks] = (byte) computeStraightTop(ranks, wilds);
+            }
+        }
+    }
+
+    // Reusable working state
+    private final int[] suitRows = new int[CardSet.SUIT_COUNT];
+    private final int[] atLeast = new int[5];  // Ranks held at least n times, atLeast[0] being every rank
+    private long natural;
+    private long jokers;
+
+    private HandType handType = HandType.HIGH_CARD;
+    private long usedMask;
+    private long coreMask;
+    private int strength;
+
+    /**
+     * Evaluates a set of cards holding at least one joker and stores the result in this instance.
+     *
+     * @param cards The bitmask of the cards to evaluate (see {@link CardSet})
+     * @return The hand type of the best completion
+     * @throws IllegalArgumentException if the cards hold no joker
+     */
+    public HandType evaluate(long cards) {
+        natural = cards & CardSet.FULL_DECK_MASK;
+        jokers = cards & CardSet.JOKER_MASK;
+        int wilds = Long.bitCount(jokers);
+        if (wilds == 0) {
+            throw new IllegalArgumentException("Wild evaluation needs at least one joker");
+        }
+
+        int ranks = 0;
+        int twoOrMore = 0;
+        int threeOrMore = 0;
+        int four = RANK_MASK;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            int row = (int) (natural >>> (suit * RANK_COUNT)) & RANK_MASK;
+            suitRows[suit] = row;
+            threeOrMore |= twoOrMore & row;
+            twoOrMore |= ranks & row;
+            ranks |= row;
+            four &= row;
+        }
+        atLeast[0] = RANK_MASK;
+        atLeast[1] = ranks;
+        atLeast[2] = twoOrMore;
+        atLeast[3] = threeOrMore;
+        atLeast[4] = four;
+
+        if (evaluateStraightFlush(wilds) || evaluateFourOfAKind(wilds) || evaluateFullHouse(wilds)
+                || evaluateFlush(wilds) || evaluateStraight(ranks, wilds)) {
+            return handType;
+        }
+        // Below a straight, a joker always joins the most numerous rank: with a pair
+        // available it makes three of a kind, so two pairs are never the best completion
+        if (evaluateOfAKind(HandType.THREE_OF_A_KIND, 3, 2, wilds) || evaluateOfAKind(HandType.PAIR, 2, 3, wilds)) {
+            return handType;
+        }
+        // A lone joker is the highest card
+        long joker = HandUtils.lowestCards(jokers, 1);
+        store(HandType.HIGH_CARD, joker, joker, HandStrength.slot(1, ACE));
+        return handType;
+    }
+
+    /**
+     * @return The hand type found by the last evaluation
+     */
+    public HandType getHandType() {
+        return handType;
+    }
+
+    /**
+     * @return The bitmask of every card used by the last hand, jokers and kickers included
+     */
+    public long getUsedMask() {
+        return usedMask;
+    }
+
+    /**
+     * @return The bitmask of the cards forming the last combination, jokers included
+     */
+    public long getCoreMask() {
+        return coreMask;
+    }
+
+    /**
+     * @return The strength of the best completion of the last hand (see {@link HandStrength})
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    // ==================== HAND TYPES ====================
+
+    private boolean evaluateStraightFlush(int wilds) {
+        int bestTop = NONE;
+        int bestSuit = NONE;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            int top = STRAIGHT_TOP[wilds][suitRows[suit]];
+            if (top > bestTop) {
+                bestTop = top;
+                bestSuit = suit;
+            }
+        }
+        if (bestTop == NONE) {
+            return false;
+        }
+        long core = (long) (STRAIGHT_WINDOW[bestTop] & suitRows[bestSuit]) << (bestSuit * RANK_COUNT);
+        core |= HandUtils.lowestCards(jokers, 5 - Long.bitCount(core));
+        HandType type = bestTop == ACE ? HandType.ROYAL_FLUSH : HandType.STRAIGHT_FLUSH;
+        store(type, core, core, HandStrength.category(type) | HandStrength.slot(1, bestTop));
+        return true;
+    }
+
+    private boolean evaluateFourOfAKind(int wilds) {
+        int rank = HandUtils.highestRank(atLeast[Math.max(0, 4 - wilds)]);
+        if (rank == NONE) {
+            return false;
+        }
+        long core = withJokers(HandUtils.lowestCards(rankCards(rank), 4), 4);
+        completeWithKickers(HandType.FOUR_OF_A_KIND, core, 1 << rank, 1,
+                HandStrength.category(HandType.FOUR_OF_A_KIND) | HandStrength.slot(1, rank), 2);
+        return true;
+    }
+
+    private boolean evaluateFullHouse(int wilds) {
+        for (int threeRank = ACE; threeRank >= 0; threeRank--) {
+            int missing = Math.max(0, 3 - Long.bitCount(rankCards(threeRank)));
+            if (missing > wilds) {
+                continue;
+            }
+            int pairRank = HandUtils.highestRank(atLeast[Math.max(0, 2 - (wilds - missing))] & ~(1 << threeRank));
+            if (pairRank == NONE) {
+                continue;
+            }
+            long core = withJokers(HandUtils.lowestCards(rankCards(threeRank), 3), 3);
+            long pair = HandUtils.lowestCards(rankCards(pairRank), 2);
+            core |= pair | HandUtils.lowestCards(jokers & ~core, 2 - Long.bitCount(pair));
+            store(HandType.FULL_HOUSE, core, core, HandStrength.category(HandType.FULL_HOUSE)
+                    | HandStrength.slot(1, threeRank) | HandStrength.slot(2, pairRank));
+            return true;
+        }
+        return false;
+    }
+
+    private boolean evaluateFlush(int wilds) {
+        int bestRanks = 0;
+        int bestSuit = NONE;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            int row = suitRows[suit];
+            if (Integer.bitCount(row) + wilds < 5) {
+                continue;
+            }
+            // Jokers take the highest ranks missing from the suit
+            int filled = row;
+            for (int i = 0; i < wilds; i++) {
+                filled |= Integer.highestOneBit(~filled & RANK_MASK);
+            }
+            int topFive = topRanks(filled, 5);
+            if (topFive > bestRanks) {
+                bestRanks = topFive;
+                bestSuit = suit;
+            }
+        }
+        if (bestSuit == NONE) {
+            return false;
+        }
+        long core = (long) (bestRanks & suitRows[bestSuit]) << (bestSuit * RANK_COUNT);
+        core |= HandUtils.lowestCards(jokers, 5 - Long.bitCount(core));
+        int slots = HandStrength.category(HandType.FLUSH);
+        int position = 1;
+        for (int remaining = bestRanks; remaining != 0; remaining &= ~Integer.highestOneBit(remaining)) {
+            slots |= HandStrength.slot(position++, HandUtils.highestRank(remaining));
+        }
+        store(HandType.FLUSH, core, core, slots);
+        return true;
+    }
+
+    private boolean evaluateStraight(int ranks, int wilds) {
+        int top = STRAIGHT_TOP[wilds][ranks];
+        if (top == NONE) {
+            return false;
+        }
+        long core = 0L;
+        for (int window = STRAIGHT_WINDOW[top] & ranks; window != 0; window &= window - 1) {
+            core |= HandUtils.lowestCards(rankCards(Integer.numberOfTrailingZeros(window)), 1);
+        }
+        core |= HandUtils.lowestCards(jokers, 5 - Long.bitCount(core));
+        store(HandType.STRAIGHT, core, core, HandStrength.category(HandType.STRAIGHT) | HandStrength.slot(1, top));
+        return true;
+    }
+
+    /**
+     * Tests a three of a kind or a pair made of the highest rank the jokers can complete.
+     */
+    private boolean evaluateOfAKind(HandType type, int size, int kickers, int wilds) {
+        int rank = HandUtils.highestRank(atLeast[Math.max(0, size - wilds)]);
+        if (rank == NONE) {
+            return false;
+        }
+        long core = withJokers(HandUtils.lowestCards(rankCards(rank), size), size);
+        completeWithKickers(type, core, 1 << rank, kickers, HandStrength.category(type) | HandStrength.slot(1, rank), 2);
+        return true;
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Adds the kickers to a combination, picking at each step the higher of the best
+     * remaining natural card and a spare joker playing the highest unused rank.
+     */
+    private void completeWithKickers(HandType type, long core, int coreRanks, int count, int slots, int position) {
+        long pool = natural & ~core;
+        long spare = jokers & ~core;
+        int usedRanks = coreRanks;
+        long used = core;
+        for (int i = 0; i < count; i++) {
+            int naturalRank = highestRankOf(pool);
+            int jokerRank = spare != 0 ? HandUtils.highestRank(RANK_MASK & ~usedRanks) : NONE;
+            int rank;
+            if (jokerRank > naturalRank) {
+                rank = jokerRank;
+                used |= spare & -spare;
+                spare &= spare - 1;
+            } else if (naturalRank != NONE) {
+                rank = naturalRank;
+                long card = HandUtils.lowestCards(pool & CardSet.rankMask(rank), 1);
+                used |= card;
+                pool &= ~card;
+            } else {
+                break;
+            }
+            usedRanks |= 1 << rank;
+            slots |= HandStrength.slot(position++, rank);
+        }
+        store(type, used, core, slots);
+    }
+
+    /**
+     * Completes natural cards with the lowest jokers up to the given size.
+     */
+    private long withJokers(long cards, int size) {
+        return cards | HandUtils.lowestCards(jokers, size - Long.bitCount(cards));
+    }
+
+    private long rankCards(int rank) {
+        return natural & CardSet.rankMask(rank);
+    }
+
+    private static int highestRankOf(long cards) {
+        int ranks = 0;
+        for (int suit = 0; suit < CardSet.SUIT_COUNT; suit++) {
+            ranks |= (int) (cards >>> (suit * RANK_COUNT)) & RANK_MASK;
+        }
+        return HandUtils.highestRank(ranks);
+    }
+
+    /**
+     * Keeps the highest ranks of a rank pattern.
+     */
+    private static int topRanks(int ranks, int count) {
+        while (Integer.bitCount(ranks) > count) {
+            ranks &= ranks - 1;
+        }
+        return ranks;
+    }
+
+    private void store(HandType type, long used, long core, int slots) {
+        this.handType = type;
+        this.usedMask = used;
+        this.coreMask = core;
+        this.strength = slots;
+    }
+
+    // ==================== TABLE CONSTRUCTION ====================
+
+    private static int computeStraightTop(int ranks, int wilds) {
+        for (int top = ACE; top >= FIVE; top--) {
+            if (Integer.bitCount(STRAIGHT_WINDOW[top] & ~ranks) <= wilds) {
+                return top;
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,246 @@
+package main.java.fr.ynov.ortalab.domain.game.analysis;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.game.EvaluationResult;
+import main.java.fr.ynov.ortalab.domain.game.HandEvaluator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks that two hand evaluation strategies agree on the hand type, core cards and used cards.
+ * Every hand of 1 to 5 cards of the deck is compared, then random hands of 6 to 8 cards.
+ * Both sides bypass the evaluation cache. Each disagreement is shrunk to a minimal
+ * counterexample: a hand where removing any single card makes both strategies agree.
+ */
+public final class DifferentialVerifier {
+    private static final int EXHAUSTIVE_MAX_SIZE = GameConfig.ACTIVE_HAND_SIZE;
+    private static final int SAMPLES_PER_TASK = 10_000;
+
+    private final HandEvaluator.Strategy reference;
+    private final HandEvaluator.Strategy candidate;
+    private final ForkJoinPool pool;
+    private final int maxCounterexamples;
+
+    /**
+     * Outcome of one disagreement, after shrinking.
+     *
+     * @param expected The result of the reference strategy
+     * @param actual The result of the candidate strategy
+     */
+    public record Counterexample(EvaluationResult expected, EvaluationResult actual) {
+        @Override
+        public String toString() {
+            return new CardSet(expected.cards()) + ": expected " + describe(expected) + ", got " + describe(actual);
+        }
+
+        private static String describe(EvaluationResult result) {
+            return result.handType() + " core " + new CardSet(result.coreMask()) + " used " + new CardSet(result.usedMask());
+        }
+    }
+
+    /**
+     * Summary of a verification run.
+     *
+     * @param checked The number of hands compared
+     * @param mismatches The number of hands on which the strategies disagreed
+     * @param counterexamples Distinct minimal counterexamples, smallest first
+     * @param elapsedNanos The wall-clock duration of the run
+     */
+    public record Report(long checked, long mismatches, List<Counterexample> counterexamples, long elapsedNanos) {
+        /**
+         * @return true if the strategies agreed on every hand
+         */
+        public boolean isSuccessful() {
+            return mismatches == 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format("Checked %,d hands in %.3f s, %,d mismatches",
+                    checked, elapsedNanos / 1e9, mismatches));
+            for (Counterexample counterexample : counterexamples) {
+                builder.append(System.lineSeparator()).append("  ").append(counterexample);
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Creates a verifier comparing a candidate strategy with a reference one on the common pool.
+     *
+     * @param reference The trusted implementation, usually the checker chain
+     * @param candidate The implementation under test
+     * @param maxCounterexamples The maximum number of counterexamples to report
+     */
+    public DifferentialVerifier(HandEvaluator.Strategy reference, HandEvaluator.Strategy candidate, int maxCounterexamples) {
+        this.reference = reference;
+        this.candidate = candidate;
+        this.pool = ForkJoinPool.commonPool();
+        this.maxCounterexamples = maxCounterexamples;
+    }
+
+    /**
+     * Compares both strategies on every hand of up to five cards and on random larger hands.
+     *
+     * @param samples The number of random hands of 6 to 8 cards to compare
+     * @param seed The seed of the random hands, to replay a run
+     * @return The verification summary
+     */
+    public Report verify(long samples, long seed) {
+        Run run = new Run();
+        long start = System.nanoTime();
+
+        for (int size = 1; size <= EXHAUSTIVE_MAX_SIZE; size++) {
+            pool.invoke(new ExhaustiveTask(run, size, 0, CardSet.DECK_SIZE - size + 1));
+        }
+        pool.invoke(new SampleTask(run, new SplittableRandom(seed), samples));
+
+        List<Counterexample> counterexamples = new ArrayList<>(run.counterexamples.values());
+        counterexamples.sort(Comparator.comparingInt((Counterexample c) -> Long.bitCount(c.expected().cards()))
+                .thenComparingLong(c -> c.expected().cards()));
+        return new Report(run.checked.sum(), run.mismatches.sum(), counterexamples, System.nanoTime() - start);
+    }
+
+    /**
+     * Shared state of one verification run, plus the per-thread comparison logic.
+     */
+    private final class Run {
+        private final LongAdder checked = new LongAdder();
+        private final LongAdder mismatches = new LongAdder();
+        private final ConcurrentHashMap<Long, Counterexample> counterexamples = new ConcurrentHashMap<>();
+
+        /**
+         * Pair of reusable evaluators owned by a single task.
+         */
+        private final class Comparison {
+            private final HandEvaluator expected = new HandEvaluator(reference, null);
+            private final HandEvaluator actual = new HandEvaluator(candidate, null);
+            private long checkedCount;
+
+            void check(long hand) {
+                checkedCount++;
+                if (!agree(hand)) {
+                    mismatches.increment();
+                    if (counterexamples.size() < maxCounterexamples) {
+                        long minimal = shrink(hand);
+                        agree(minimal);
+                        counterexamples.putIfAbsent(minimal, new Counterexample(expected.getResult(), actual.getResult()));
+                    }
+                }
+            }
+
+            void flush() {
+                checked.add(checkedCount);
+                checkedCount = 0;
+            }
+
+            private boolean agree(long hand) {
+                return expected.evaluate(hand) == actual.evaluate(hand)
+                        && expected.getCoreMask() == actual.getCoreMask()
+                        && expected.getUsedMask() == actual.getUsedMask();
+            }
+
+            /**
+             * Removes cards one at a time as long as the strategies still disagree.
+             */
+            private long shrink(long hand) {
+                boolean shrunk = true;
+                while (shrunk && Long.bitCount(hand) > 1) {
+                    shrunk = false;
+                    for (long remaining = hand; remaining != 0; remaining &= remaining - 1) {
+                        long smaller = hand & ~(remaining & -remaining);
+                        if (!agree(smaller)) {
+                            hand = smaller;
+                            shrunk = true;
+                            break;
+                        }
+                    }
+                }
+                return hand;
+            }
+        }
+    }
+
+    /**
+     * Compares every hand of the given size whose lowest card index lies in [from, to).
+     */
+    @SuppressWarnings("serial")  // Fork/join tasks are never serialized
+    private final class ExhaustiveTask extends RecursiveAction {
+        private final Run run;
+        private final int size;
+        private final int from;
+        private final int to;
+
+        ExhaustiveTask(Run run, int size, int from, int to) {
+            this.run = run;
+            this.size = size;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ExhaustiveTask(run, size, from, middle), new ExhaustiveTask(run, size, middle, to));
+                return;
+            }
+            Run.Comparison comparison = run.new Comparison();
+            enumerate(from + 1, size - 1, 1L << from, comparison);
+            comparison.flush();
+        }
+
+        private void enumerate(int start, int remaining, long hand, Run.Comparison comparison) {
+            if (remaining == 0) {
+                comparison.check(hand);
+                return;
+            }
+            for (int index = start; index <= CardSet.DECK_SIZE - remaining; index++) {
+                enumerate(index + 1, remaining - 1, hand | 1L << index, comparison);
+            }
+        }
+    }
+
+    /**
+     * Compares random hands of 6 to 8 cards, splitting the sample count across tasks.
+     */
+    @SuppressWarnings("serial")  // Fork/join tasks are never serialized
+    private final class SampleTask extends RecursiveAction {
+        private final Run run;
+        private final SplittableRandom random;
+        private final long samples;
+
+        SampleTask(Run run, SplittableRandom random, long samples) {
+            this.run = run;
+            this.random = random;
+            this.samples = samples;
+        }
+
+        @Override
+        protected void compute() {
+            if (samples > SAMPLES_PER_TASK) {
+                long half = samples / 2;
+                invokeAll(new SampleTask(run, random.split(), half), new SampleTask(run, random, samples - half));
+                return;
+            }
+            Run.Comparison comparison = run.new Comparison();
+            for (long i = 0; i < samples; i++) {
+                int size = random.nextInt(EXHAUSTIVE_MAX_SIZE + 1, GameConfig.MAX_HAND_SIZE + 1);
+                long hand = 0L;
+                while (Long.bitCount(hand) < size) {
+                    hand |= 1L << random.nextInt(CardSet.DECK_SIZE);
+                }
+                comparison.check(hand);
+            }
+            comparison.flush();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package main.java.fr.ynov.ortalab.domain.game.analysis;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.utils.CombinationUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed best discard of every starting hand, read from a memory-mapped file
+ * written by {@link DiscardTableGenerator}.
+ * The file is mapped read-only, so a lookup is a single byte read at the hand's index and
+ * every JVM of the host shares the same pages of the page cache, without any heap copy.
+ * <p>
+ * Layout: a {@value #HEADER_SIZE}-byte header (magic, format version, hand size, deck size,
+ * entry count), then one byte per hand of {@link GameConfig#MAX_HAND_SIZE} cards of the standard
+ * deck, in colexicographic order of the card masks. A byte holds the discard as a mask over the
+ * cards of the hand, lowest card first, {@value #KEEP} when keeping the hand is best, and 0 while
+ * the hand has not been solved yet.
+ */
+public final class DiscardTable {
+    static final int MAGIC = 0x4F445431;  // "ODT1"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int HAND_SIZE = GameConfig.MAX_HAND_SIZE;
+    static final byte UNSOLVED = 0;
+    static final byte KEEP = (byte) 0xFF;
+
+    /**
+     * Number of hands in the table, C(52, 8).
+     */
+    static final long ENTRY_COUNT = CombinationUtils.binomial(CardSet.DECK_SIZE, HAND_SIZE);
+
+    private final ByteBuffer entries;
+
+    private DiscardTable(ByteBuffer entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Maps a table file in memory.
+     *
+     * @param path The file written by {@link DiscardTableGenerator}
+     * @return The table, backed by the file
+     * @throws IOException if the file cannot be read or is not a discard table for this hand size
+     */
+    public static DiscardTable open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            checkHeader(buffer, channel.size());
+            return new DiscardTable(buffer.position(HEADER_SIZE).slice());
+        }
+    }
+
+    /**
+     * Reads the best discard of a starting hand.
+     *
+     * @param hand A hand of {@link GameConfig#MAX_HAND_SIZE} standard cards
+     * @return The cards to discard, an empty set if keeping the hand is best,
+     *         or null if the hand has not been solved yet
+     * @throws IllegalArgumentException if the hand does not have the table's hand size or holds a joker
+     */
+    public CardSet lookup(CardSet hand) {
+        byte entry = entries.get((int) indexOf(hand.mask()));
+        return entry == UNSOLVED ? null : new CardSet(decode(hand.mask(), entry));
+    }
+
+    /**
+     * @return Number of hands already solved, read through the whole table
+     */
+    public long getSolvedCount() {
+        long solved = 0;
+        for (int index = 0; index < entries.limit(); index++) {
+            if (entries.get(index) != UNSOLVED) {
+                solved++;
+            }
+        }
+        return solved;
+    }
+
+    // ==================== FORMAT ====================
+
+    /**
+     * Validates the header of a mapped table.
+     *
+     * @throws IOException if the header does not describe a table of this format and hand size
+     */
+    static void checkHeader(ByteBuffer buffer, long fileSize) throws IOException {
+        if (fileSize != HEADER_SIZE + ENTRY_COUNT || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a discard table of " + HAND_SIZE + "-card hands");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION || buffer.getInt(8) != HAND_SIZE
+                || buffer.getInt(12) != CardSet.DECK_SIZE || buffer.getLong(16) != ENTRY_COUNT) {
+            throw new IOException("Unsupported discard table format " + buffer.getInt(4));
+        }
+    }
+
+    /**
+     * Writes the header of a new table.
+     */
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(0, MAGIC)
+                .putInt(4, FORMAT_VERSION)
+                .putInt(8, HAND_SIZE)
+                .putInt(12, CardSet.DECK_SIZE)
+                .putLong(16, ENTRY_COUNT);
+    }
+
+    /**
+     * Computes the index of a hand: its rank among all hands in colexicographic order,
+     * which is also the ascending order of the card masks.
+     *
+     * @param hand The card mask of the hand
+     * @return The index of the hand's entry, from 0 to {@link #ENTRY_COUNT} - 1
+     * @throws IllegalArgumentException if the hand does not have the table's hand size or holds a joker
+     */
+    static long indexOf(long hand) {
+        if (Long.bitCount(hand) != HAND_SIZE || (hand & CardSet.JOKER_MASK) != 0) {
+            throw new IllegalArgumentException("The table only holds hands of " + HAND_SIZE + " standard cards");
+        }
+        return CombinationUtils.rank(hand);
+    }
+
+    /**
+     * Finds the hand at an index, the inverse of {@link #indexOf(long)}.
+     *
+     * @param index The index of the hand's entry
+     * @return The card mask of the hand
+     */
+    static long handAt(long index) {
+        return CombinationUtils.unrank(index, HAND_SIZE);
+    }
+
+    /**
+     * Encodes a discard as a mask over the cards of the hand, lowest card first.
+     */
+    static byte encode(long hand, long discard) {
+        if (discard == 0L) {
+            return KEEP;
+        }
+        int entry = 0;
+        int position = 0;
+        for (long remaining = hand; remaining != 0; remaining &= remaining - 1) {
+            if ((discard & Long.lowestOneBit(remaining)) != 0) {
+                entry |= 1 << position;
+            }
+            position++;
+        }
+        return (byte) entry;
+    }
+
+    /**
+     * Decodes a discard encoded by {@link #encode(long, long)}.
+     */
+    static long decode(long hand, byte entry) {
+        if (entry == KEEP) {
+            return 0L;
+        }
+        long discard = 0L;
+        int position = 0;
+        for (long remaining = hand; remaining != 0; remaining &= remaining - 1) {
+            if ((entry >>> position & 1) != 0) {
+                discard |= Long.lowestOneBit(remaining);
+            }
+            position++;
+        }
+        return discard;
+    }
+}
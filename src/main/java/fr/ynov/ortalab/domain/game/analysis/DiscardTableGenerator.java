@@ -0,0 +1,146 @@
+package main.java.fr.ynov.ortalab.domain.game.analysis;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.game.DamageDistribution;
+import main.java.fr.ynov.ortalab.domain.game.Deck;
+import main.java.fr.ynov.ortalab.domain.game.DiscardCalculator;
+import main.java.fr.ynov.ortalab.domain.game.ScoringTable;
+import main.java.fr.ynov.ortalab.domain.game.SuitCanonicalizer;
+import main.java.fr.ynov.ortalab.domain.utils.CombinationUtils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Offline solver writing the {@link DiscardTable} file: the best discard of every starting hand
+ * drawn from a fresh {@link Deck}, by expected best-play damage (see {@link DiscardCalculator}).
+ * <p>
+ * Only canonical hands are solved (see {@link SuitCanonicalizer}); the answer is then mapped onto
+ * every hand of the same orbit, which cuts the number of solves about 24 times under suit-neutral
+ * scoring. Generation is split into shards over ranges of the table, and each canonical hand is
+ * solved by the shard holding its own entry. Its orbit is written before that entry, so an
+ * interrupted run resumes where it stopped. Shards may run in separate JVMs on the same file,
+ * as they write to disjoint entries.
+ */
+public final class DiscardTableGenerator {
+    private static final int FORCE_INTERVAL = 1024;  // Solved hands between two writes to disk
+
+    private final DiscardCalculator calculator;
+    private final SuitCanonicalizer canonicalizer;
+    private final long deck;
+
+    /**
+     * Result of a generation run.
+     *
+     * @param shard The shard generated
+     * @param shardCount The number of shards the table is split into
+     * @param solvedHands The number of canonical hands solved by this run
+     * @param writtenEntries The number of table entries written by this run
+     * @param complete Whether every canonical hand of the shard is now solved
+     * @param elapsedNanos The wall-clock duration of the run
+     */
+    public record GenerationReport(int shard, int shardCount, long solvedHands, long writtenEntries,
+                                   boolean complete, long elapsedNanos) {
+        @Override
+        public String toString() {
+            return String.format("Shard %d/%d: %d hands solved, %d entries written in %.1f s%s",
+                    shard + 1, shardCount, solvedHands, writtenEntries, elapsedNanos / 1e9,
+                    complete ? ", shard complete" : "");
+        }
+    }
+
+    /**
+     * Creates a generator for the default scoring, running on the common fork/join pool.
+     */
+    public DiscardTableGenerator() {
+        this(ScoringTable.BASE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a generator for the given bonuses.
+     *
+     * @param scoringTable The bonuses to score with
+     * @param pool The pool executing the discard calculations
+     */
+    public DiscardTableGenerator(ScoringTable scoringTable, ForkJoinPool pool) {
+        this.calculator = new DiscardCalculator(scoringTable, pool);
+        this.canonicalizer = scoringTable.getSuitCanonicalizer();
+        this.deck = new Deck().getRemainingCards().mask();
+    }
+
+    /**
+     * Solves the canonical hands of one shard, creating the file if needed.
+     *
+     * @param path The table file
+     * @param shard The shard to generate, from 0 to shardCount - 1
+     * @param shardCount The number of shards the table is split into
+     * @param maxSolved The number of hands to solve before returning, to generate in several runs
+     * @return What this run did
+     * @throws IOException if the file cannot be written or is not a discard table
+     * @throws IllegalArgumentException if the shard is out of range
+     */
+    public GenerationReport generate(Path path, int shard, int shardCount, long maxSolved) throws IOException {
+        if (shardCount < 1 || shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("Shard must be between 0 and " + (shardCount - 1));
+        }
+        long start = System.nanoTime();
+        long from = DiscardTable.ENTRY_COUNT * shard / shardCount;
+        long to = DiscardTable.ENTRY_COUNT * (shard + 1) / shardCount;
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Mapping past the end grows a new file to its full size, entries reading as unsolved
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    DiscardTable.HEADER_SIZE + DiscardTable.ENTRY_COUNT);
+            if (buffer.getInt(0) == 0) {
+                DiscardTable.writeHeader(buffer);
+            }
+            DiscardTable.checkHeader(buffer, channel.size());
+
+            long solved = 0;
+            long written = 0;
+            long hand = DiscardTable.handAt(from);
+            long index = from;
+            for (; index < to && solved < maxSolved; index++, hand = CombinationUtils.next(hand)) {
+                if (buffer.get(entryPosition(index)) != DiscardTable.UNSOLVED
+                        || canonicalizer.canonicalize(hand, deck & ~hand).hand() != hand) {
+                    continue;
+                }
+                long discard = solve(hand);
+                for (long member : canonicalizer.orbitOf(hand)) {
+                    if (member != hand) {
+                        SuitCanonicalizer.CanonicalForm form = canonicalizer.canonicalize(member, deck & ~member);
+                        buffer.put(entryPosition(DiscardTable.indexOf(member)),
+                                DiscardTable.encode(member, form.toOriginal(discard)));
+                        written++;
+                    }
+                }
+                buffer.put(entryPosition(index), DiscardTable.encode(hand, discard));
+                written++;
+                if (++solved % FORCE_INTERVAL == 0) {
+                    buffer.force();
+                }
+            }
+            buffer.force();
+            return new GenerationReport(shard, shardCount, solved, written, index == to, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Finds the discard with the best expected damage, or none if keeping the hand deals more.
+     */
+    private long solve(long hand) {
+        CardSet cards = new CardSet(hand);
+        DiscardCalculator.DiscardOption best = calculator.rankDiscards(cards, new CardSet(deck & ~hand)).get(0);
+        DamageDistribution distribution = best.distribution();
+        return calculator.bestPlayDamage(cards) >= distribution.getExpectedDamage() ? 0L : best.discard().mask();
+    }
+
+    private static int entryPosition(long index) {
+        return (int) (DiscardTable.HEADER_SIZE + index);
+    }
+}
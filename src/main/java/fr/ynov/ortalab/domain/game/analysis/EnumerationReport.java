@@ -0,0 +1,67 @@
+package main.java.fr.ynov.ortalab.domain.game.analysis;
+
+import main.java.fr.ynov.ortalab.domain.game.HandType;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of an exhaustive hand enumeration: how many hands of each type were found
+ * and how long it took.
+ *
+ * @param handSize The number of cards per enumerated hand
+ * @param counts The number of hands found per hand type, indexed by ordinal
+ * @param elapsedNanos The wall-clock duration of the enumeration
+ */
+public record EnumerationReport(int handSize, long[] counts, long elapsedNanos) {
+
+    /**
+     * Copies the counts so the report cannot change after creation.
+     */
+    public EnumerationReport {
+        counts = counts.clone();
+    }
+
+    /**
+     * @param handType The hand type to look up
+     * @return The number of hands of that type
+     */
+    public long getCount(HandType handType) {
+        return counts[handType.ordinal()];
+    }
+
+    /**
+     * @return The total number of enumerated hands
+     */
+    public long getTotalHands() {
+        return Arrays.stream(counts).sum();
+    }
+
+    /**
+     * @return The evaluation throughput, in hands per second
+     */
+    public double getHandsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : getTotalHands() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Checks the frequency table against reference counts.
+     *
+     * @param expected The expected number of hands per hand type, indexed by ordinal
+     * @return true if every count matches
+     */
+    public boolean matches(long[] expected) {
+        return Arrays.equals(counts, expected);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%d-card hands%n", handSize));
+        for (HandType handType : HandType.values()) {
+            builder.append(String.format("  %-16s %,12d%n", handType.getName(), getCount(handType)));
+        }
+        builder.append(String.format("  %-16s %,12d%n", "Total", getTotalHands()));
+        builder.append(String.format("Elapsed %.3f s, %,.0f hands/s", elapsedNanos / 1e9, getHandsPerSecond()));
+        return builder.toString();
+    }
+}
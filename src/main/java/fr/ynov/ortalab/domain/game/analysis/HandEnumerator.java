@@ -0,0 +1,129 @@
+package main.java.fr.ynov.ortalab.domain.game.analysis;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.game.HandEvaluator;
+import main.java.fr.ynov.ortalab.domain.game.HandType;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates every hand of a given size that can be drawn from a set of cards, in parallel.
+ * Work is split with fork/join on the lowest card of each hand; every leaf task owns a
+ * reusable evaluator and its own counters, so the hot loop neither allocates nor shares state.
+ * The evaluation cache is bypassed, as each hand is seen exactly once.
+ */
+public final class HandEnumerator {
+    /**
+     * Number of five-card hands of each type in a standard 52-card deck, indexed by hand type ordinal.
+     */
+    public static final long[] KNOWN_FIVE_CARD_COUNTS = {
+            1_302_540,  // High Card
+            1_098_240,  // Pair
+            123_552,    // Two Pair
+            54_912,     // Three of a Kind
+            10_200,     // Straight
+            5_108,      // Flush
+            3_744,      // Full House
+            624,        // Four of a Kind
+            36,         // Straight Flush
+            4           // Royal Flush
+    };
+
+    private static final int HAND_TYPE_COUNT = HandType.values().length;
+
+    private final HandEvaluator.Strategy strategy;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an enumerator running on the common fork/join pool.
+     *
+     * @param strategy The evaluation implementation to use
+     */
+    public HandEnumerator(HandEvaluator.Strategy strategy) {
+        this(strategy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an enumerator running on the given pool.
+     *
+     * @param strategy The evaluation implementation to use
+     * @param pool The pool executing the enumeration tasks
+     */
+    public HandEnumerator(HandEvaluator.Strategy strategy, ForkJoinPool pool) {
+        this.strategy = strategy;
+        this.pool = pool;
+    }
+
+    /**
+     * Evaluates every combination of handSize cards among the given cards.
+     *
+     * @param cards The cards to draw hands from
+     * @param handSize The number of cards per hand
+     * @return The hand type frequency table and timing of the run
+     * @throws IllegalArgumentException if handSize is not between 1 and the number of cards
+     */
+    public EnumerationReport enumerate(CardSet cards, int handSize) {
+        if (handSize < 1 || handSize > cards.size()) {
+            throw new IllegalArgumentException("Hand size must be between 1 and " + cards.size());
+        }
+
+        int[] indexes = new int[cards.size()];
+        int position = 0;
+        for (long remaining = cards.mask(); remaining != 0; remaining &= remaining - 1) {
+            indexes[position++] = Long.numberOfTrailingZeros(remaining);
+        }
+
+        long start = System.nanoTime();
+        long[] counts = pool.invoke(new EnumerationTask(indexes, handSize, 0, indexes.length - handSize + 1));
+        return new EnumerationReport(handSize, counts, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts the hands whose lowest card position lies in [from, to).
+     */
+    @SuppressWarnings("serial")  // Fork/join tasks are never serialized
+    private final class EnumerationTask extends RecursiveTask<long[]> {
+        private final int[] indexes;
+        private final int handSize;
+        private final int from;
+        private final int to;
+
+        EnumerationTask(int[] indexes, int handSize, int from, int to) {
+            this.indexes = indexes;
+            this.handSize = handSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                EnumerationTask low = new EnumerationTask(indexes, handSize, from, middle);
+                low.fork();
+                long[] counts = new EnumerationTask(indexes, handSize, middle, to).compute();
+                long[] lowCounts = low.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += lowCounts[i];
+                }
+                return counts;
+            }
+
+            long[] counts = new long[HAND_TYPE_COUNT];
+            HandEvaluator evaluator = new HandEvaluator(strategy, null);
+            enumerate(from + 1, handSize - 1, 1L << indexes[from], evaluator, counts);
+            return counts;
+        }
+
+        private void enumerate(int start, int remaining, long hand, HandEvaluator evaluator, long[] counts) {
+            if (remaining == 0) {
+                counts[evaluator.evaluate(hand).ordinal()]++;
+                return;
+            }
+            for (int i = start; i <= indexes.length - remaining; i++) {
+                enumerate(i + 1, remaining - 1, hand | 1L << indexes[i], evaluator, counts);
+            }
+        }
+    }
+}
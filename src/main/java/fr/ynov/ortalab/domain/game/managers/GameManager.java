@@ -2,12 +2,15 @@ package main.java.fr.ynov.ortalab.domain.game.managers;
 
 import main.java.fr.ynov.ortalab.config.GameConfig;
 import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
 import main.java.fr.ynov.ortalab.domain.exceptions.CardOperationException;
 import main.java.fr.ynov.ortalab.domain.exceptions.DeckException;
 import main.java.fr.ynov.ortalab.domain.exceptions.PlayerActionException;
 import main.java.fr.ynov.ortalab.domain.game.Player;
 import main.java.fr.ynov.ortalab.domain.game.Enemy;
 import main.java.fr.ynov.ortalab.domain.game.Deck;
+import main.java.fr.ynov.ortalab.domain.game.DiscardCalculator;
+import main.java.fr.ynov.ortalab.domain.game.PlayAdvisor;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
 public class GameManager {
     private Player player;
     private Deck gameDeck;
+    private final PlayAdvisor playAdvisor = new PlayAdvisor();
     private EncounterManager encounterManager;
     private TurnManager turnManager;
     private GameState gameState;
@@ -51,6 +55,7 @@ public class GameManager {
     private void initializeGame() {
         player = new Player(INITIAL_PLAYER_HP);
         gameDeck = new Deck();
+        player.setCardEnhancements(gameDeck.getEnhancements());
         encounterManager = new EncounterManager(player, gameDeck);
         turnManager = new TurnManager(player, encounterManager, gameDeck);
         gameState = GameState.INITIALIZING;
@@ -151,4 +156,24 @@ public class GameManager {
     public Deck getDeck() {
         return gameDeck;
     }
+
+    /**
+     * Ranks the plays of the current hand against the current enemy, e.g. for hints.
+     *
+     * @param limit Maximum number of plays to return
+     * @return The best plays, highest damage first
+     */
+    public List<PlayAdvisor.Suggestion> advisePlays(int limit) {
+        return playAdvisor.advise(player, getCurrentEnemy(), limit);
+    }
+
+    /**
+     * Ranks every discard of the current hand by the damage expected after the redraw.
+     *
+     * @return Every discard of 1 to 5 cards with its damage distribution, best first
+     */
+    public List<DiscardCalculator.DiscardOption> rankDiscards() {
+        return new DiscardCalculator(player.getScoringTable())
+                .rankDiscards(CardSet.fromCards(player.getCurrentHand()), gameDeck.getRemainingCards());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package main.java.fr.ynov.ortalab.domain.utils;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+/**
+ * Utility class ranking card subsets, so that every k-card subset of the deck or of a hand
+ * gets a dense index into a primitive array, with no hashing and no boxing.
+ * Subsets are card bitmasks (see {@link CardSet}) ranked in colexicographic order, which is
+ * the ascending order of the masks: the rank of {c1 < c2 < ... < ck} is the sum of C(ci, i)
+ * (the combinatorial number system), read from a precomputed binomial table.
+ * Ranks can also be taken relative to a universe, such as the cards of a hand, where each
+ * card stands for its position among the universe's cards.
+ */
+public class CombinationUtils {
+    private static final int MAX_CARDS = CardSet.CARD_COUNT;
+
+    /**
+     * Binomial coefficients C(n, k) for every n and k up to the number of cards.
+     */
+    private static final long[][] BINOMIAL = new long[MAX_CARDS + 1][MAX_CARDS + 1];
+
+    static {
+        for (int n = 0; n <= MAX_CARDS; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    /**
+     * Returns a binomial coefficient from the precomputed table
+     *
+     * @param n Number of cards to choose from, up to the number of cards including jokers
+     * @param k Number of cards chosen
+     * @return C(n, k), or 0 if k is negative or greater than n
+     */
+    public static long binomial(int n, int k) {
+        return k < 0 || k > n ? 0 : BINOMIAL[n][k];
+    }
+
+    /**
+     * Ranks a subset among the subsets of the same size, in colexicographic order
+     *
+     * @param subset Bitmask of the cards
+     * @return The rank, from 0 to C(n, k) - 1 where n is the position of the highest card plus one
+     */
+    public static long rank(long subset) {
+        long rank = 0;
+        int position = 1;
+        for (long remaining = subset; remaining != 0; remaining &= remaining - 1) {
+            rank += BINOMIAL[Long.numberOfTrailingZeros(remaining)][position++];
+        }
+        return rank;
+    }
+
+    /**
+     * Ranks a subset of a universe among its subsets of the same size, in colexicographic order
+     *
+     * @param subset Bitmask of the cards, all of them in the universe
+     * @param universe Bitmask of the cards to choose from, such as a hand
+     * @return The rank, from 0 to C(size of universe, size of subset) - 1
+     */
+    public static long rank(long subset, long universe) {
+        long rank = 0;
+        int position = 1;
+        for (long remaining = subset; remaining != 0; remaining &= remaining - 1) {
+            long card = remaining & -remaining;
+            rank += BINOMIAL[Long.bitCount(universe & (card - 1))][position++];
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the subset of a given size with a given rank, the inverse of {@link #rank(long)}
+     *
+     * @param rank Rank of the subset
+     * @param size Number of cards in the subset
+     * @return Bitmask of the cards
+     */
+    public static long unrank(long rank, int size) {
+        long subset = 0L;
+        int card = MAX_CARDS;
+        for (int position = size; position > 0; position--) {
+            do {
+                card--;
+            } while (BINOMIAL[card][position] > rank);
+            subset |= 1L << card;
+            rank -= BINOMIAL[card][position];
+        }
+        return subset;
+    }
+
+    /**
+     * Finds the subset of a universe with a given size and rank, the inverse of {@link #rank(long, long)}
+     *
+     * @param rank Rank of the subset
+     * @param size Number of cards in the subset
+     * @param universe Bitmask of the cards to choose from
+     * @return Bitmask of the cards
+     */
+    public static long unrank(long rank, int size, long universe) {
+        long positions = unrank(rank, size);
+        long subset = 0L;
+        int position = 0;
+        for (long remaining = universe; remaining != 0 && (positions >>> position) != 0; remaining &= remaining - 1) {
+            if ((positions >>> position & 1) != 0) {
+                subset |= remaining & -remaining;
+            }
+            position++;
+        }
+        return subset;
+    }
+
+    /**
+     * Returns the next subset of the same size in colexicographic order (Gosper's hack)
+     *
+     * @param subset Bitmask of the cards, not empty
+     * @return The next bitmask with as many bits set; callers stop after the last rank they need
+     */
+    public static long next(long subset) {
+        long lowest = subset & -subset;
+        long ripple = subset + lowest;
+        return (((ripple ^ subset) >>> 2) / lowest) | ripple;
+    }
+
+    /**
+     * Returns the next subset of a universe with the same size in colexicographic order:
+     * the lowest card that can move up to the next card of the universe does, and the cards
+     * below it go back to the lowest cards of the universe.
+     *
+     * @param subset Bitmask of the cards, all of them in the universe
+     * @param universe Bitmask of the cards to choose from
+     * @return The next subset, or 0 after the last one
+     */
+    public static long next(long subset, long universe) {
+        int passed = 0;
+        for (long remaining = subset; remaining != 0; remaining &= remaining - 1) {
+            long card = remaining & -remaining;
+            long above = universe & -(card << 1);
+            long target = above & -above;
+            if (target == 0) {
+                return 0L;
+            }
+            if ((subset & target) == 0) {
+                return (subset & -(target << 1)) | target | HandUtils.lowestCards(universe, passed);
+            }
+            passed++;
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,140 @@
+package main.java.fr.ynov.ortalab.domain.utils;
+
+import main.java.fr.ynov.ortalab.domain.card.Card;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rank and suit histogram of a hand, computed in a single pass over its cards.
+ * Shared by all hand checkers so that each evaluation groups the cards only once.
+ * Ranks are card value ordinals (0 for TWO up to 12 for ACE), suits are suit ordinals.
+ * An instance can be reloaded with other cards to avoid allocating one per evaluation.
+ */
+public final class HandShape {
+    private long cards;
+    private final int[] rankCounts = new int[CardSet.VALUE_COUNT];
+    private final int[] suitCounts = new int[CardSet.SUIT_COUNT];
+    private final int[] suitRankMasks = new int[CardSet.SUIT_COUNT];
+    private int rankMask;
+
+    /**
+     * Creates an empty shape, to be filled with {@link #load(long)}.
+     */
+    public HandShape() {
+    }
+
+    /**
+     * Computes the shape of a list of cards. Duplicate cards are counted once.
+     *
+     * @param cards The cards to analyze
+     */
+    public HandShape(List<Card> cards) {
+        this(CardSet.maskOf(cards));
+    }
+
+    /**
+     * Computes the shape of a set of cards given as a bitmask.
+     *
+     * @param cards The bitmask of the cards to analyze (see {@link CardSet})
+     */
+    public HandShape(long cards) {
+        load(cards);
+    }
+
+    /**
+     * Replaces the analyzed cards and recomputes every count and mask in place.
+     *
+     * @param cards The bitmask of the cards to analyze (see {@link CardSet})
+     * @return This shape, for chaining
+     */
+    public HandShape load(long cards) {
+        this.cards = cards;
+        Arrays.fill(rankCounts, 0);
+        Arrays.fill(suitCounts, 0);
+        Arrays.fill(suitRankMasks, 0);
+        rankMask = 0;
+
+        for (long remaining = cards; remaining != 0; remaining &= remaining - 1) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            int rank = index % CardSet.VALUE_COUNT;
+            int suit = index / CardSet.VALUE_COUNT;
+
+            rankCounts[rank]++;
+            suitCounts[suit]++;
+            suitRankMasks[suit] |= 1 << rank;
+            rankMask |= 1 << rank;
+        }
+        return this;
+    }
+
+    /**
+     * @return The bitmask of the analyzed cards
+     */
+    public long getCards() {
+        return cards;
+    }
+
+    /**
+     * @return The number of analyzed cards
+     */
+    public int size() {
+        return Long.bitCount(cards);
+    }
+
+    public int getRankCount(int rank) {
+        return rankCounts[rank];
+    }
+
+    public int getSuitCount(int suit) {
+        return suitCounts[suit];
+    }
+
+    /**
+     * @return A 13-bit mask with one bit per rank present in the hand
+     */
+    public int getRankMask() {
+        return rankMask;
+    }
+
+    /**
+     * @param suit The suit ordinal
+     * @return A 13-bit mask of the ranks held in that suit
+     */
+    public int getSuitRankMask(int suit) {
+        return suitRankMasks[suit];
+    }
+
+    /**
+     * Finds the ranks held exactly the given number of times.
+     *
+     * @param count The number of cards per rank
+     * @return A 13-bit mask of the matching ranks
+     */
+    public int getRanksWithCount(int count) {
+        int ranks = 0;
+        for (int rank = 0; rank < rankCounts.length; rank++) {
+            if (rankCounts[rank] == count) {
+                ranks |= 1 << rank;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * @param rank The rank to select
+     * @return Bitmask of the hand's cards of that rank
+     */
+    public long getRankCards(int rank) {
+        return cards & CardSet.rankMask(rank);
+    }
+
+    /**
+     * @param suit The suit ordinal to select
+     * @return Bitmask of the hand's cards of that suit
+     */
+    public long getSuitCards(int suit) {
+        return cards & CardSet.suitMask(suit);
+    }
+}
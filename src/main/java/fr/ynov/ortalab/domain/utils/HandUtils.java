@@ -1,154 +1,129 @@
 package main.java.fr.ynov.ortalab.domain.utils;
 
-import main.java.fr.ynov.ortalab.domain.card.Card;
-import main.java.fr.ynov.ortalab.domain.card.CardSuit;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
 import main.java.fr.ynov.ortalab.domain.card.CardValue;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.HashSet;
-import java.util.Comparator;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.stream.Collectors;
-
 /**
- * Utility class for poker hand evaluation operations
+ * Utility class for poker hand evaluation operations.
+ * Works on a precomputed {@link HandShape} and 13-bit rank masks (bit n is the value of ordinal n).
+ * Among cards of equal value, the lowest suit is always picked first.
  */
 public class HandUtils {
+    private static final int ACE = CardValue.ACE.ordinal();
+    private static final int FIVE = CardValue.FIVE.ordinal();
+    private static final int WHEEL_RANKS = (1 << ACE) | 0b1111;
 
     /**
-     * Groups cards by their value
+     * Returns the highest rank of a rank mask
      *
-     * @param cards List of cards to group
-     * @return Map of card values to lists of cards with that value
+     * @param ranks 13-bit rank mask
+     * @return The highest rank, or -1 if the mask is empty
      */
-    public static Map<CardValue, List<Card>> groupByValue(List<Card> cards) {
-        return cards.stream()
-                .collect(Collectors.groupingBy(Card::value));
+    public static int highestRank(int ranks) {
+        return 31 - Integer.numberOfLeadingZeros(ranks);
     }
 
     /**
-     * Groups cards by their suit
+     * Finds the highest straight in a rank mask
      *
-     * @param cards List of cards to group
-     * @return Map of card suits to lists of cards with that suit
+     * @param ranks 13-bit rank mask
+     * @return The rank of the straight's top card (FIVE for the wheel A-5), or -1 if no straight
      */
-    public static Map<CardSuit, List<Card>> groupBySuit(List<Card> cards) {
-        return cards.stream()
-                .collect(Collectors.groupingBy(Card::suit));
+    public static int findStraightTop(int ranks) {
+        for (int top = ACE; top >= FIVE; top--) {
+            int window = top == FIVE ? WHEEL_RANKS : 0b11111 << (top - 4);
+            if ((ranks & window) == window) {
+                return top;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Finds groups of cards by the number of cards in each group
+     * Keeps the given number of cards with the lowest bit index, i.e. the lowest suits for equal values
      *
-     * @param cards List of cards to analyze
-     * @param groupSize Size of the groups to find
-     * @return List of card values that have exactly the specified group size,
-     *         sorted by numeric value in descending order
+     * @param cards Bitmask of candidate cards
+     * @param limit Maximum number of cards to keep
+     * @return Bitmask of the kept cards
      */
-    public static List<CardValue> findValueGroups(List<Card> cards, int groupSize) {
-        Map<CardValue, List<Card>> valueGroups = groupByValue(cards);
-
-        return valueGroups.entrySet().stream()
-                .filter(entry -> entry.getValue().size() == groupSize)
-                .map(Map.Entry::getKey)
-                .sorted((v1, v2) -> v2.getNumericValue() - v1.getNumericValue())
-                .collect(Collectors.toList());
+    public static long lowestCards(long cards, int limit) {
+        long kept = 0L;
+        for (int i = 0; i < limit && cards != 0; i++) {
+            long lowest = cards & -cards;
+            kept |= lowest;
+            cards ^= lowest;
+        }
+        return kept;
     }
 
     /**
-     * Gets the top N cards by value, excluding cards with specified values
+     * Gets up to a number of cards of the given rank
      *
-     * @param cards List of cards to search
-     * @param excludeValues Values to exclude
-     * @param limit Maximum number of cards to return
-     * @return List of cards sorted by value descending, limited to the specified count
+     * @param shape Shape of the hand
+     * @param rank Rank of the cards to get
+     * @param limit Maximum number of cards to get
+     * @return Bitmask of the cards
      */
-    public static List<Card> getTopCardsByValue(List<Card> cards, Set<CardValue> excludeValues, int limit) {
-        return cards.stream()
-                .filter(card -> !excludeValues.contains(card.value()))
-                .sorted((c1, c2) -> c2.value().getNumericValue() - c1.value().getNumericValue())
-                .limit(limit)
-                .collect(Collectors.toList());
+    public static long getCardsOfRank(HandShape shape, int rank, int limit) {
+        return lowestCards(shape.getRankCards(rank), limit);
     }
 
     /**
-     * Gets cards of specific values from a list of cards
+     * Gets the top N cards by value, excluding cards with specified ranks
      *
-     * @param cards List of cards to search
-     * @param values Set of values to find
-     * @return List of cards that match the specified values
+     * @param shape Shape of the hand
+     * @param excludedRanks 13-bit mask of the ranks to skip
+     * @param limit Maximum number of cards to get
+     * @return Bitmask of the cards
      */
-    public static List<Card> getCardsOfValues(List<Card> cards, Set<CardValue> values) {
-        return cards.stream()
-                .filter(card -> values.contains(card.value()))
-                .collect(Collectors.toList());
+    public static long getTopCards(HandShape shape, int excludedRanks, int limit) {
+        long kept = 0L;
+        int candidates = shape.getRankMask() & ~excludedRanks;
+        while (limit > 0 && candidates != 0) {
+            int rank = highestRank(candidates);
+            long sameRank = getCardsOfRank(shape, rank, limit);
+            kept |= sameRank;
+            limit -= Long.bitCount(sameRank);
+            candidates &= ~(1 << rank);
+        }
+        return kept;
     }
 
     /**
-     * Gets cards that form a straight
+     * Gets the top N cards of one suit by value
      *
-     * @param cards List of cards to check
-     * @return List of cards forming a straight or empty list if no straight
+     * @param shape Shape of the hand
+     * @param suit Suit ordinal of the cards
+     * @param limit Maximum number of cards to get
+     * @return Bitmask of the cards
      */
-    public static List<Card> getStraightCards(List<Card> cards) {
-        List<CardValue> distinctValues = cards.stream()
-                .map(Card::value)
-                .distinct()
-                .sorted(Comparator.comparingInt(CardValue::getNumericValue))
-                .toList();
-
-        // Check for wheel straight (A-5)
-        if (distinctValues.contains(CardValue.TWO) &&
-                distinctValues.contains(CardValue.THREE) &&
-                distinctValues.contains(CardValue.FOUR) &&
-                distinctValues.contains(CardValue.FIVE) &&
-                distinctValues.contains(CardValue.ACE)) {
-
-            Set<CardValue> wheelValues = new HashSet<>(Arrays.asList(
-                    CardValue.ACE, CardValue.TWO, CardValue.THREE, CardValue.FOUR, CardValue.FIVE));
-
-            return getCardsOfValues(cards, wheelValues).stream()
-                    .limit(5)
-                    .collect(Collectors.toList());
+    public static long getTopCardsOfSuit(HandShape shape, int suit, int limit) {
+        long suitCards = shape.getSuitCards(suit);
+        long kept = 0L;
+        for (int i = 0; i < limit && suitCards != 0; i++) {
+            long highest = Long.highestOneBit(suitCards);
+            kept |= highest;
+            suitCards ^= highest;
         }
-
-        // Check for regular straight
-        for (int i = 0; i <= distinctValues.size() - 5; i++) {
-            boolean isStraight = true;
-            for (int j = i; j < i + 4; j++) {
-                if (distinctValues.get(j).getNumericValue() + 1 != distinctValues.get(j + 1).getNumericValue()) {
-                    isStraight = false;
-                    break;
-                }
-            }
-
-            if (isStraight) {
-                Set<CardValue> straightValues = new HashSet<>();
-                for (int j = i; j < i + 5; j++) {
-                    straightValues.add(distinctValues.get(j));
-                }
-
-                return getCardsOfValues(cards, straightValues).stream()
-                        .limit(5)
-                        .collect(Collectors.toList());
-            }
-        }
-
-        return Collections.emptyList();
+        return kept;
     }
 
     /**
-     * Gets cards sorted by value in descending order
+     * Gets one card for each rank of the straight ending at the given top rank
      *
-     * @param cards List of cards to sort
-     * @return Sorted list of cards
+     * @param shape Shape of the hand
+     * @param top Rank of the straight's top card, as returned by {@link #findStraightTop(int)}
+     * @param suit Suit ordinal the cards must share, or -1 for any suit
+     * @return Bitmask of the five cards
      */
-    public static List<Card> getSortedCards(List<Card> cards) {
-        return cards.stream()
-                .sorted((c1, c2) -> c2.value().getNumericValue() - c1.value().getNumericValue())
-                .collect(Collectors.toList());
+    public static long getStraightCards(HandShape shape, int top, int suit) {
+        long candidates = suit >= 0 ? shape.getSuitCards(suit) : shape.getCards();
+        long straight = 0L;
+        for (int offset = 0; offset < 5; offset++) {
+            // The wheel (A-2-3-4-5) uses the ace as its low card
+            int rank = top - offset < 0 ? ACE : top - offset;
+            straight |= lowestCards(candidates & CardSet.rankMask(rank), 1);
+        }
+        return straight;
     }
-}
\ No newline at end of file
+}
@@ -64,7 +64,7 @@ public class CardButton extends JToggleButton {
 
     /**
      * Determines the appropriate text color based on the card's suit.
-     * Hearts and Diamonds are red, Clubs and Spades are black.
+     * Hearts and Diamonds are red, Clubs and Spades are black, as are jokers, which have no suit.
      *
      * @return the color to use for the card text
      */
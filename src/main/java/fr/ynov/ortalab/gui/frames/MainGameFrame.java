@@ -327,6 +327,9 @@ public class MainGameFrame extends JFrame {
         if (gameStateTimer != null) {
             gameStateTimer.stop();
         }
+        if (buttonPanel != null) {
+            buttonPanel.stopDamagePreview();
+        }
         super.dispose();
     }
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package main.java.fr.ynov.ortalab.gui.panels;
 
 import main.java.fr.ynov.ortalab.domain.card.Card;
-import main.java.fr.ynov.ortalab.domain.game.HandEvaluator;
+import main.java.fr.ynov.ortalab.domain.game.SelectionEvaluator;
 import main.java.fr.ynov.ortalab.domain.game.managers.GameManager;
+import main.java.fr.ynov.ortalab.gui.services.DamagePreviewService;
 
 import javax.swing.JPanel;
 import javax.swing.JLabel;
@@ -20,6 +21,7 @@ public class ButtonPanel extends JPanel {
     private final JLabel currentHandPointsLabel;
     private final JButton playButton;
     private final JButton discardButton;
+    private final transient DamagePreviewService damagePreviewService = new DamagePreviewService();
 
     public ButtonPanel(GameManager gameManager, HandPanel handPanel, StatusPanel playerStatusPanel, StatusPanel enemyStatusPanel, JLabel currentHandPointsLabel) {
         this.gameManager = gameManager;
@@ -40,6 +42,13 @@ public class ButtonPanel extends JPanel {
         add(discardButton);
     }
 
+    /**
+     * Stops the background damage preview, typically when the game frame is closed.
+     */
+    public void stopDamagePreview() {
+        damagePreviewService.shutdown();
+    }
+
     // Getters for buttons
     public JButton getPlayCardsButton() {
         return playButton;
@@ -62,20 +71,29 @@ public class ButtonPanel extends JPanel {
     }
 
     private void updateHandPoints() {
-        List<Card> selectedCards = handPanel.getSelectedCards();
+        SelectionEvaluator selection = handPanel.getSelection();
 
-        if (selectedCards.isEmpty()) {
+        if (selection.isEmpty()) {
+            damagePreviewService.cancel();
             currentHandPointsLabel.setText("Hand: None");
             return;
         }
 
-        // Create a HandEvaluator to get the hand type and base points
-        HandEvaluator evaluator = new HandEvaluator(selectedCards);
-        String handType = evaluator.getHandType();
-        int basePoints = evaluator.getPoints();
+        // The selection evaluator is kept up to date by the hand panel on each toggle
+        // Show the hand type and base points right away, then the full damage once computed
+        currentHandPointsLabel.setText(String.format("%s: %d", selection.getHandName(), selection.getBasePoints()));
+        damagePreviewService.requestPreview(selection.getCards(), gameManager.getPlayer(),
+                gameManager.getCurrentEnemy(), this::showDamagePreview);
+    }
 
-        // Display only the hand type and base points, not the total damage
-        currentHandPointsLabel.setText(String.format("%s: %d", handType, basePoints));
+    private void showDamagePreview(DamagePreviewService.Preview preview) {
+        String text = String.format("%s: %d damage", preview.handName(), preview.damage());
+        if (preview.enemyRemainingHealth() >= 0) {
+            text += preview.killsEnemy()
+                    ? " (defeats enemy)"
+                    : String.format(" (enemy %d HP left)", preview.enemyRemainingHealth());
+        }
+        currentHandPointsLabel.setText(text);
     }
 
     private void handlePlayAction() {
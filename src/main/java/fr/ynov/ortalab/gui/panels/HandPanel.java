@@ -2,6 +2,7 @@ package main.java.fr.ynov.ortalab.gui.panels;
 
 import main.java.fr.ynov.ortalab.domain.card.Card;
 import main.java.fr.ynov.ortalab.domain.exceptions.DeckException;
+import main.java.fr.ynov.ortalab.domain.game.SelectionEvaluator;
 import main.java.fr.ynov.ortalab.domain.game.managers.GameManager;
 import main.java.fr.ynov.ortalab.gui.buttons.CardButton;
 
@@ -19,6 +20,7 @@ public class HandPanel extends JPanel {
     private final GameManager gameManager;
     private SortType currentSortType = SortType.VALUE;
     private final List<Runnable> selectionListeners = new ArrayList<>();
+    private final transient SelectionEvaluator selection = new SelectionEvaluator();
 
     public enum SortType {
         VALUE,
@@ -61,25 +63,39 @@ public class HandPanel extends JPanel {
 
     private void initializeHand() {
         cardButtons.clear();
+        selection.clear();
         removeAll();
 
         playerHand.forEach(this::addCardButton);
         revalidate();
         repaint();
+
+        // The rebuilt buttons start unselected, so the listeners must drop the previous selection
+        notifySelectionListeners();
     }
 
     private void addCardButton(Card card) {
         CardButton cardButton = new CardButton(card);
         cardButton.addActionListener(e -> {
-            for (Runnable listener : selectionListeners) {
-                listener.run();
+            // Keep the selection evaluator in step with the toggled card
+            if (cardButton.isSelected()) {
+                selection.add(card);
+            } else {
+                selection.remove(card);
             }
+            notifySelectionListeners();
         });
 
         cardButtons.add(cardButton);
         add(cardButton);
     }
 
+    private void notifySelectionListeners() {
+        for (Runnable listener : selectionListeners) {
+            listener.run();
+        }
+    }
+
     public List<Card> getSelectedCards() {
         return cardButtons.stream()
                 .filter(AbstractButton::isSelected)
@@ -87,6 +103,13 @@ public class HandPanel extends JPanel {
                 .toList();
     }
 
+    /**
+     * @return The evaluator tracking the selected cards, updated on every toggle
+     */
+    public SelectionEvaluator getSelection() {
+        return selection;
+    }
+
     public void removeCards(List<Card> cardsToRemove) throws DeckException {
         playerHand.removeAll(cardsToRemove);
 
@@ -108,10 +131,11 @@ public class HandPanel extends JPanel {
         // Sort the cards based on the selected type
         switch (sortType) {
             case VALUE:
-                playerHand.sort(Comparator.comparingInt(c -> c.value().getNumericValue()));
+                playerHand.sort(Comparator.comparing(Card::isJoker).thenComparingInt(HandPanel::numericValueOf));
                 break;
             case SUIT:
-                playerHand.sort(Comparator.comparing(Card::suit).thenComparingInt(c -> c.value().getNumericValue()));
+                playerHand.sort(Comparator.comparing(Card::suit, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparingInt(HandPanel::numericValueOf));
                 break;
         }
 
@@ -119,6 +143,13 @@ public class HandPanel extends JPanel {
         initializeHand();
     }
 
+    /**
+     * Jokers have no value and sort after every standard card.
+     */
+    private static int numericValueOf(Card card) {
+        return card.isJoker() ? Integer.MAX_VALUE : card.value().getNumericValue();
+    }
+
     public void addCardSelectionListener(Runnable listener) {
         selectionListeners.add(listener);
     }
@@ -0,0 +1,117 @@
+package main.java.fr.ynov.ortalab.gui.services;
+
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.game.Enemy;
+import main.java.fr.ynov.ortalab.domain.game.EvaluationResult;
+import main.java.fr.ynov.ortalab.domain.game.HandEvaluator;
+import main.java.fr.ynov.ortalab.domain.game.Player;
+import main.java.fr.ynov.ortalab.domain.game.ScoringTable;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Computes the full damage of the selected cards, with every player bonus, away from the
+ * event dispatch thread.
+ * Each request supersedes the previous ones: a request still waiting is replaced, and
+ * a result is only delivered, on the EDT, if no newer request was made in the meantime.
+ * Requests must be made from the EDT, which takes an immutable snapshot of the scoring
+ * bonuses and enemy health so the background thread never reads mutable game state.
+ */
+public class DamagePreviewService {
+    private final ExecutorService executor;
+    private final AtomicLong latestRequest = new AtomicLong();
+    private final AtomicReference<Request> pendingRequest = new AtomicReference<>();
+
+    /**
+     * Damage preview of a selection.
+     *
+     * @param handName The display name of the selection's hand type, custom or built-in
+     * @param damage The damage dealt with all player bonuses
+     * @param enemyRemainingHealth The enemy health after the attack, or -1 without an enemy
+     */
+    public record Preview(String handName, int damage, int enemyRemainingHealth) {
+        /**
+         * @return true if the attack would defeat the enemy
+         */
+        public boolean killsEnemy() {
+            return enemyRemainingHealth == 0;
+        }
+    }
+
+    /**
+     * Immutable input of one preview computation.
+     */
+    private record Request(long id, CardSet selection, ScoringTable scoringTable, int enemyHealth,
+                           Consumer<Preview> onResult) {
+    }
+
+    /**
+     * Creates a service backed by a single daemon worker thread.
+     */
+    public DamagePreviewService() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "damage-preview");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests the preview of a selection, superseding any earlier request.
+     * Must be called from the EDT.
+     *
+     * @param selection The selected cards, not empty
+     * @param player The player whose bonuses apply
+     * @param enemy The enemy being attacked, or null
+     * @param onResult Called on the EDT with the preview, unless a newer request was made
+     */
+    public void requestPreview(CardSet selection, Player player, Enemy enemy, Consumer<Preview> onResult) {
+        Request request = new Request(latestRequest.incrementAndGet(), selection, player.getScoringTable(),
+                enemy != null ? enemy.getHealthPoints() : -1, onResult);
+
+        // Only schedule the worker if it has no request waiting; otherwise it will pick this one up
+        if (pendingRequest.getAndSet(request) == null) {
+            executor.execute(this::processLatestRequest);
+        }
+    }
+
+    /**
+     * Drops every request not yet delivered, e.g. when the selection is emptied.
+     */
+    public void cancel() {
+        latestRequest.incrementAndGet();
+        pendingRequest.set(null);
+    }
+
+    /**
+     * Stops the worker thread. Pending requests are dropped.
+     */
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private void processLatestRequest() {
+        Request request = pendingRequest.getAndSet(null);
+        if (request == null || request.id() != latestRequest.get()) {
+            return;
+        }
+
+        EvaluationResult result = new HandEvaluator(request.selection()).getResult();
+        int damage = request.scoringTable().score(result);
+        int remainingHealth = request.enemyHealth() >= 0 ? Math.max(0, request.enemyHealth() - damage) : -1;
+        Preview preview = new Preview(result.getName(), damage, remainingHealth);
+
+        SwingUtilities.invokeLater(() -> {
+            // Publish only if the selection did not change while computing
+            if (request.id() == latestRequest.get()) {
+                request.onResult().accept(preview);
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package main.java.fr.ynov.ortalab.main;
+
+import main.java.fr.ynov.ortalab.domain.game.HandEvaluator;
+import main.java.fr.ynov.ortalab.domain.game.analysis.DifferentialVerifier;
+
+/**
+ * Verifies that the table-driven evaluator agrees with the reference checker chain.
+ * Usage: DifferentialVerificationRunner [samples] [seed]
+ * Exits with status 1 and prints minimal counterexamples if the evaluators disagree.
+ */
+public class DifferentialVerificationRunner {
+    private static final int MAX_COUNTEREXAMPLES = 20;
+
+    public static void main(String[] args) {
+        long samples = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+
+        DifferentialVerifier verifier = new DifferentialVerifier(
+                HandEvaluator.Strategy.CHECKER_CHAIN, HandEvaluator.Strategy.LOOKUP_TABLE, MAX_COUNTEREXAMPLES);
+        DifferentialVerifier.Report report = verifier.verify(samples, seed);
+
+        System.out.printf("%s vs %s, seed %d%n%s%n",
+                HandEvaluator.Strategy.CHECKER_CHAIN, HandEvaluator.Strategy.LOOKUP_TABLE, seed, report);
+        if (!report.isSuccessful()) {
+            System.exit(1);
+        }
+    }
+}
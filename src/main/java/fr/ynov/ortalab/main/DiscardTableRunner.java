@@ -0,0 +1,28 @@
+package main.java.fr.ynov.ortalab.main;
+
+import main.java.fr.ynov.ortalab.domain.game.analysis.DiscardTableGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Generates one shard of the precomputed discard table under the default scoring.
+ * Usage: DiscardTableRunner file [shard shardCount] [maxHands]
+ * Runs can be interrupted and restarted; each one resumes with the first unsolved hand.
+ */
+public class DiscardTableRunner {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: DiscardTableRunner file [shard shardCount] [maxHands]");
+            System.exit(2);
+        }
+        Path path = Path.of(args[0]);
+        int shard = args.length > 2 ? Integer.parseInt(args[1]) : 0;
+        int shardCount = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long maxHands = args.length > 3 ? Long.parseLong(args[3])
+                : args.length == 2 ? Long.parseLong(args[1]) : Long.MAX_VALUE;
+
+        DiscardTableGenerator.GenerationReport report = new DiscardTableGenerator().generate(path, shard, shardCount, maxHands);
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,39 @@
+package main.java.fr.ynov.ortalab.main;
+
+import main.java.fr.ynov.ortalab.config.GameConfig;
+import main.java.fr.ynov.ortalab.domain.card.CardSet;
+import main.java.fr.ynov.ortalab.domain.game.Deck;
+import main.java.fr.ynov.ortalab.domain.game.HandEvaluator;
+import main.java.fr.ynov.ortalab.domain.game.analysis.EnumerationReport;
+import main.java.fr.ynov.ortalab.domain.game.analysis.HandEnumerator;
+
+/**
+ * Evaluates all 2,598,960 five-card hands of the deck, checks the hand type frequencies
+ * against the known combinatorial counts and prints the evaluator throughput.
+ * Usage: HandEnumerationRunner [CHECKER_CHAIN|LOOKUP_TABLE] [rounds]
+ * The first rounds warm up the JVM; exits with status 1 if any count is wrong.
+ */
+public class HandEnumerationRunner {
+    public static void main(String[] args) {
+        HandEvaluator.Strategy strategy = args.length > 0
+                ? HandEvaluator.Strategy.valueOf(args[0])
+                : GameConfig.HAND_EVALUATION_STRATEGY;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        CardSet deck = new Deck().getStandardCards();
+        HandEnumerator enumerator = new HandEnumerator(strategy);
+        boolean valid = true;
+
+        for (int round = 1; round <= rounds; round++) {
+            EnumerationReport report = enumerator.enumerate(deck, GameConfig.ACTIVE_HAND_SIZE);
+            boolean matches = report.matches(HandEnumerator.KNOWN_FIVE_CARD_COUNTS);
+            valid &= matches;
+            System.out.printf("Round %d/%d with %s%n%s%nCounts %s%n%n",
+                    round, rounds, strategy, report, matches ? "match" : "DO NOT MATCH the known counts");
+        }
+
+        if (!valid) {
+            System.exit(1);
+        }
+    }
+}